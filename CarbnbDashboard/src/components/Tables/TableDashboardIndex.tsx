@@ -39,6 +39,8 @@ const TableDashboardIndex = () => {
   const [reservations, setReservations] = useState<Reservation[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
   const [todayCount, setTodayCount] = useState(0);
   const [totalCount, setTotalCount] = useState(0);
@@ -47,13 +49,43 @@ const TableDashboardIndex = () => {
 
   const [selectedDate, setSelectedDate] = useState<Date | null>(new Date());
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/reservations/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    const contentType = response.headers.get('content-type');
+    if (!contentType || !contentType.includes('application/json')) {
+      throw new Error('Error: Incorrect data');
+    }
+
+    if (!response.ok) {
+      throw new Error(`Error: ${response.status}`);
+    }
+
+    const data = await response.json();
+    const next = response.headers.get('X-Next-Cursor');
+
+    setReservations((previous) => cursor ? [...previous, ...data] : data);
+    setNextCursor(next);
+    return { loaded: data.length, next };
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
         setIsLoading(true);
         setError(null);
-        
-        const response = await fetch(`${BASE_URL}/member/reservations/index`, {
+
+        await fetchPage(null);
+
+        const response = await fetch(`${BASE_URL}/member/reservations/summary`, {
           method: 'POST',
           credentials: 'include',
           headers: {
@@ -62,59 +94,15 @@ const TableDashboardIndex = () => {
           }
         });
 
-        const contentType = response.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          throw new Error('Error: Incorrect data');
-        }
-
         if (!response.ok) {
           throw new Error(`Error: ${response.status}`);
         }
 
-        const data = await response.json();
-        setReservations(data);
-
-        let todayC = 0;
-        let totalC = 0;
-        let todayE = 0;
-        let totalE = 0;
-        const today = new Date();
-
-        data.forEach((reservation: Reservation) => {
-
-          const reservationDate = new Date(reservation.createdAt);
-
-          if ((reservation.status == '1' ||
-              reservation.status == '2' ||
-              reservation.status == '3') &&
-              reservationDate.toDateString() === today.toDateString()
-          ) {
-            todayC++;
-          }
-
-          if (reservation.status == '1' ||
-              reservation.status == '2' ||
-              reservation.status == '3'
-          ) {
-            totalC++;
-          }
-
-          if (reservation.status != '3' &&
-              reservation.amount &&
-              reservationDate.toDateString() === today.toDateString()
-          ) {
-            todayE += parseFloat(reservation.amount);
-          }
-
-          if (reservation.status != '3' && reservation.amount) {
-            totalE += parseFloat(reservation.amount);
-          }
-        });
-
-        setTodayCount(todayC);
-        setTotalCount(totalC);
-        setTodayEarnings(todayE);
-        setTotalEarnings(totalE);
+        const summary = await response.json();
+        setTodayCount(summary.todayCount);
+        setTotalCount(summary.totalCount);
+        setTodayEarnings(summary.todayEarnings);
+        setTotalEarnings(summary.totalEarnings);
 
       } catch (err) {
         setError(err instanceof Error ? err.message : 'An error occurred loading data.');
@@ -126,6 +114,17 @@ const TableDashboardIndex = () => {
     fetchData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      setIsLoadingMore(true);
+      await fetchPage(nextCursor);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : 'An error occurred loading data.');
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const formatDateTime = (isoString: string) => {
     const date = parseISO(isoString);
     return format(date, "HH:mm");
@@ -255,6 +254,18 @@ const TableDashboardIndex = () => {
             ))}
           </div>
         )}
+
+        {nextCursor && (
+          <div className="flex justify-center pb-8">
+            <button
+              onClick={handleLoadMore}
+              disabled={isLoadingMore}
+              className={`rounded-full border border-gray-300 py-2 px-6 text-sm font-medium ${isLoadingMore ? 'text-gray-400' : 'text-gray-900 hover:bg-gray-50'}`}
+            >
+              {isLoadingMore ? 'Loading...' : 'Load more'}
+            </button>
+          </div>
+        )}
       </div>
     </>
   );
@@ -38,6 +38,8 @@ const TableReservationIndex = () => {
   const [error, setError] = useState<string | null>(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(1);
+  const [totalCount, setTotalCount] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const itemsPerPage = PerPage;
 
   const [upcomingCount, setUpcomingCount] = useState(0);
@@ -45,13 +47,46 @@ const TableReservationIndex = () => {
   const [canceledCount, setCanceledCount] = useState(0);
   const [totalEarnings, setTotalEarnings] = useState(0);
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/reservations/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    const contentType = response.headers.get('content-type');
+    if (!contentType || !contentType.includes('application/json')) {
+      throw new Error('Error: Incorrect data');
+    }
+
+    if (!response.ok) {
+      throw new Error(`Error: ${response.status}`);
+    }
+
+    const data = await response.json();
+    const next = response.headers.get('X-Next-Cursor');
+    const total = Number(response.headers.get('X-Total-Count') ?? data.length);
+
+    setReservations((previous) => cursor ? [...previous, ...data] : data);
+    setNextCursor(next);
+    setTotalCount(total);
+    setTotalPages(Math.ceil(total / itemsPerPage));
+    return { loaded: data.length, next };
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
         setIsLoading(true);
         setError(null);
-        
-        const response = await fetch(`${BASE_URL}/member/reservations/index`, {
+
+        await fetchPage(null);
+
+        const response = await fetch(`${BASE_URL}/member/reservations/summary`, {
           method: 'POST',
           credentials: 'include',
           headers: {
@@ -60,38 +95,15 @@ const TableReservationIndex = () => {
           }
         });
 
-        const contentType = response.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          throw new Error('Error: Incorrect data');
-        }
-
         if (!response.ok) {
           throw new Error(`Error: ${response.status}`);
         }
 
-        const data = await response.json();
-        setReservations(data);
-        setTotalPages(Math.ceil(data.length / itemsPerPage));
-
-        let upcoming = 0;
-        let completed = 0;
-        let canceled = 0;
-        let earnings = 0;
-
-        data.forEach((reservation: Reservation) => {
-          if (reservation.status == '1') upcoming++;
-          if (reservation.status == '2') completed++;
-          if (reservation.status == '3') canceled++;
-
-          if (reservation.status != '3' && reservation.amount) {
-            earnings += parseFloat(reservation.amount);
-          }
-        });
-
-        setUpcomingCount(upcoming);
-        setCompletedCount(completed);
-        setCanceledCount(canceled);
-        setTotalEarnings(earnings);
+        const summary = await response.json();
+        setUpcomingCount(summary.upcomingCount);
+        setCompletedCount(summary.completedCount);
+        setCanceledCount(summary.canceledCount);
+        setTotalEarnings(summary.totalEarnings);
 
       } catch (err) {
         setError(err instanceof Error ? err.message : 'An error occurred loading data.');
@@ -106,8 +118,21 @@ const TableReservationIndex = () => {
   const startIndex = (currentPage - 1) * itemsPerPage;
   const currentReservations = reservations.slice(startIndex, startIndex + itemsPerPage);
 
-  const handlePageChange = (newPage: number) => {
+  const handlePageChange = async (newPage: number) => {
     if (newPage >= 1 && newPage <= totalPages) {
+      let loaded = reservations.length;
+      let cursor = nextCursor;
+
+      try {
+        while (cursor && loaded < newPage * itemsPerPage) {
+          const page = await fetchPage(cursor);
+          loaded += page.loaded;
+          cursor = page.next;
+        }
+      } catch (err) {
+        setError(err instanceof Error ? err.message : 'An error occurred loading data.');
+      }
+
       setCurrentPage(newPage);
     }
   };
@@ -264,7 +289,7 @@ const TableReservationIndex = () => {
               </div>
               <div className="hidden sm:flex sm:flex-1 sm:items-center sm:justify-between">
                 <p className="text-sm text-slate-500">
-                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, reservations.length)} of{' '} {reservations.length} results
+                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, reservations.length)} of{' '} {totalCount} results
                 </p>
                 <nav aria-label="Pagination" className="isolate inline-flex -space-x-px rounded-md shadow-sm">
                   <button
@@ -21,6 +21,8 @@ const TableReviewIndex = () => {
   const [error, setError] = useState<string | null>(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(1);
+  const [totalCount, setTotalCount] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const itemsPerPage = PerPage;
 
   const [oneStar, setOneStar] = useState(0);
@@ -30,13 +32,46 @@ const TableReviewIndex = () => {
   const [fiveStar, setFiveStar] = useState(0);
   const [averageStar, setAverageStar] = useState(0);
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/reviews/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    const contentType = response.headers.get('content-type');
+    if (!contentType || !contentType.includes('application/json')) {
+      throw new Error('Error: Incorrect data');
+    }
+
+    if (!response.ok) {
+      throw new Error(`Error: ${response.status}`);
+    }
+
+    const data = await response.json();
+    const next = response.headers.get('X-Next-Cursor');
+    const total = Number(response.headers.get('X-Total-Count') ?? data.length);
+
+    setReviews((previous) => cursor ? [...previous, ...data] : data);
+    setNextCursor(next);
+    setTotalCount(total);
+    setTotalPages(Math.ceil(total / itemsPerPage));
+    return { loaded: data.length, next };
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
         setIsLoading(true);
         setError(null);
-        
-        const response = await fetch(`${BASE_URL}/member/reviews/index`, {
+
+        await fetchPage(null);
+
+        const response = await fetch(`${BASE_URL}/member/users/index`, {
           method: 'POST',
           credentials: 'include',
           headers: {
@@ -45,45 +80,19 @@ const TableReviewIndex = () => {
           }
         });
 
-        const contentType = response.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          throw new Error('Error: Incorrect data');
-        }
-
         if (!response.ok) {
           throw new Error(`Error: ${response.status}`);
         }
 
-        const data = await response.json();
-        setReviews(data);
-        setTotalPages(Math.ceil(data.length / itemsPerPage));
-
-        let oneS = 0;
-        let twoS = 0;
-        let threeS = 0;
-        let fourS = 0;
-        let fiveS = 0;
-        let totalRating = 0;
-
-        data.forEach((review: Review) => {
-          if (review.rating == '1') oneS++;
-          if (review.rating == '2') twoS++;
-          if (review.rating == '3') threeS++;
-          if (review.rating == '4') fourS++;
-          if (review.rating == '5') fiveS++;
-
-          const rating = parseInt(review.rating, 10);
-          totalRating += rating;
-        });
-
-        setOneStar(oneS);
-        setTwoStar(twoS);
-        setThreeStar(threeS);
-        setFourStar(fourS);
-        setFiveStar(fiveS);
+        const user = await response.json();
+        const histogram = user.reviewHistogram ?? {};
 
-        const average = data.length > 0 ? (totalRating / data.length).toFixed(2) : 0;
-        setAverageStar(Number(average));
+        setOneStar(histogram['1'] ?? 0);
+        setTwoStar(histogram['2'] ?? 0);
+        setThreeStar(histogram['3'] ?? 0);
+        setFourStar(histogram['4'] ?? 0);
+        setFiveStar(histogram['5'] ?? 0);
+        setAverageStar(user.reviews ? Number(user.reviews.toFixed(2)) : 0);
 
       } catch (err) {
         setError(err instanceof Error ? err.message : 'An error occurred loading data.');
@@ -98,8 +107,21 @@ const TableReviewIndex = () => {
   const startIndex = (currentPage - 1) * itemsPerPage;
   const currentReviews = reviews.slice(startIndex, startIndex + itemsPerPage);
 
-  const handlePageChange = (newPage: number) => {
+  const handlePageChange = async (newPage: number) => {
     if (newPage >= 1 && newPage <= totalPages) {
+      let loaded = reviews.length;
+      let cursor = nextCursor;
+
+      try {
+        while (cursor && loaded < newPage * itemsPerPage) {
+          const page = await fetchPage(cursor);
+          loaded += page.loaded;
+          cursor = page.next;
+        }
+      } catch (err) {
+        setError(err instanceof Error ? err.message : 'An error occurred loading data.');
+      }
+
       setCurrentPage(newPage);
     }
   };
@@ -258,7 +280,7 @@ const TableReviewIndex = () => {
               </div>
               <div className="hidden sm:flex sm:flex-1 sm:items-center sm:justify-between">
                 <p className="text-sm text-slate-500">
-                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, reviews.length)} of{' '} {reviews.length} results
+                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, reviews.length)} of{' '} {totalCount} results
                 </p>
                 <nav aria-label="Pagination" className="isolate inline-flex -space-x-px rounded-md shadow-sm">
                   <button
@@ -22,6 +22,8 @@ const TableWithdrawalIndex = () => {
   const [error, setError] = useState<string | null>(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(1);
+  const [totalCount, setTotalCount] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const itemsPerPage = PerPage;
 
   const [user, setUser] = useState<User | null>(null);
@@ -55,13 +57,46 @@ const TableWithdrawalIndex = () => {
     fetchData();
   }, []);
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/withdrawals/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    const contentType = response.headers.get('content-type');
+    if (!contentType || !contentType.includes('application/json')) {
+      throw new Error('Error: Incorrect data');
+    }
+
+    if (!response.ok) {
+      throw new Error(`Error: ${response.status}`);
+    }
+
+    const data = await response.json();
+    const next = response.headers.get('X-Next-Cursor');
+    const total = Number(response.headers.get('X-Total-Count') ?? data.length);
+
+    setWithdrawals((previous) => cursor ? [...previous, ...data] : data);
+    setNextCursor(next);
+    setTotalCount(total);
+    setTotalPages(Math.ceil(total / itemsPerPage));
+    return { loaded: data.length, next };
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
         setIsLoading(true);
         setError(null);
-        
-        const response = await fetch(`${BASE_URL}/member/withdrawals/index`, {
+
+        await fetchPage(null);
+
+        const response = await fetch(`${BASE_URL}/member/withdrawals/summary`, {
           method: 'POST',
           credentials: 'include',
           headers: {
@@ -70,40 +105,15 @@ const TableWithdrawalIndex = () => {
           }
         });
 
-        const contentType = response.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          throw new Error('Error: Incorrect data');
-        }
-
         if (!response.ok) {
           throw new Error(`Error: ${response.status}`);
         }
 
-        const data = await response.json();
-        setWithdrawals(data);
-        setTotalPages(Math.ceil(data.length / itemsPerPage));
-
-        setSumPending(
-          data
-            .filter((w: Withdrawal) => w.status == '1')
-            .reduce((sum: number, w: Withdrawal) => sum + parseFloat(w.amount), 0)
-            .toString()
-        );
-        
-        setSumCompleted(
-          data
-            .filter((w: Withdrawal) => w.status == '2')
-            .reduce((sum: number, w: Withdrawal) => sum + parseFloat(w.amount), 0)
-            .toString()
-        );
-        
-        setSumCanceled(
-          data
-            .filter((w: Withdrawal) => w.status == '3')
-            .reduce((sum: number, w: Withdrawal) => sum + parseFloat(w.amount), 0)
-            .toString()
-        );
-        
+        const summary = await response.json();
+        setSumPending(summary.pending);
+        setSumCompleted(summary.completed);
+        setSumCanceled(summary.canceled);
+
       } catch (err) {
         setError(err instanceof Error ? err.message : 'An error occurred loading data.');
       } finally {
@@ -117,8 +127,21 @@ const TableWithdrawalIndex = () => {
   const startIndex = (currentPage - 1) * itemsPerPage;
   const currentWithdrawals = withdrawals.slice(startIndex, startIndex + itemsPerPage);
 
-  const handlePageChange = (newPage: number) => {
+  const handlePageChange = async (newPage: number) => {
     if (newPage >= 1 && newPage <= totalPages) {
+      let loaded = withdrawals.length;
+      let cursor = nextCursor;
+
+      try {
+        while (cursor && loaded < newPage * itemsPerPage) {
+          const page = await fetchPage(cursor);
+          loaded += page.loaded;
+          cursor = page.next;
+        }
+      } catch (err) {
+        setError(err instanceof Error ? err.message : 'An error occurred loading data.');
+      }
+
       setCurrentPage(newPage);
     }
   };
@@ -284,7 +307,7 @@ const TableWithdrawalIndex = () => {
               </div>
               <div className="hidden sm:flex sm:flex-1 sm:items-center sm:justify-between">
                 <p className="text-sm text-slate-500">
-                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, withdrawals.length)} of{' '} {withdrawals.length} results
+                  Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, withdrawals.length)} of{' '} {totalCount} results
                 </p>
                 <nav aria-label="Pagination" className="isolate inline-flex -space-x-px rounded-md shadow-sm">
                   <button
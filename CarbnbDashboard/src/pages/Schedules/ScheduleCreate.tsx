@@ -26,30 +26,37 @@ const ScheduleCreate = () => {
   const navigate = useNavigate();
 
   const [spots, setSpots] = useState<Spot[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [selectedSpotOption, setSelectedSpotOption] = useState<string>('');
   const [isSpotOptionSelected, setIsSpotOptionSelected] = useState<boolean>(false);
   const [selectedChargerOption, setSelectedChargerOption] = useState<string>('');
   const [isChargerOptionSelected, setIsChargerOptionSelected] = useState<boolean>(true);
   const [charger, setCharger] = useState('');
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/spots/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    if (response.ok) {
+      const data = await response.json();
+      setSpots((previous) => cursor ? [...previous, ...data] : data);
+      setNextCursor(response.headers.get('X-Next-Cursor'));
+    } else {
+      throw new Error(`Error: ${response.status}`);
+    }
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const response = await fetch(`${BASE_URL}/member/spots/index`, {
-          method: 'POST',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-            'Accept': 'application/json',
-          }
-        });
-
-        if (response.ok) {
-          const data = await response.json();
-          setSpots(data);
-        } else {
-          throw new Error(`Error: ${response.status}`);
-        }
+        await fetchPage(null);
       } catch (error) {
         console.error("An error occurred:", error);
       }
@@ -58,6 +65,14 @@ const ScheduleCreate = () => {
     fetchData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      await fetchPage(nextCursor);
+    } catch (error) {
+      console.error("An error occurred:", error);
+    }
+  };
+
   const handleSpotOptionChange = (e: React.ChangeEvent<HTMLSelectElement>) => {
     const { value } = e.target;
     setSelectedSpotOption(value);
@@ -187,6 +202,12 @@ const ScheduleCreate = () => {
                     </svg>
                   </span>
                 </div>
+
+                {nextCursor && (
+                  <button type="button" onClick={handleLoadMore} className="mt-2 text-sm text-slate-500 hover:underline">
+                    Load more spots
+                  </button>
+                )}
               </div>
 
               <div className="w-full xl:w-1/2">
@@ -26,6 +26,8 @@ const ScheduleCreate = () => {
   });
 
   const [spots, setSpots] = useState<Spot[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [currentSpot, setCurrentSpot] = useState<Spot | null>(null);
   const [selectedSpotOption, setSelectedSpotOption] = useState<string>('');
   const [isSpotOptionSelected, setIsSpotOptionSelected] = useState<boolean>(false);
   const [selectedChargerOption, setSelectedChargerOption] = useState<string>('');
@@ -59,6 +61,7 @@ const ScheduleCreate = () => {
             ],
           });
           setSelectedSpotOption(data.spot.toString());
+          setCurrentSpot({ spotId: data.spot.toString(), name: data.spotName });
           setIsSpotOptionSelected(true);
 
           if (data.charger != null && data.charger == 1) {
@@ -82,24 +85,30 @@ const ScheduleCreate = () => {
     fetchData();
   }, [id]);
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/spots/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    if (response.ok) {
+      const data = await response.json();
+      setSpots((previous) => cursor ? [...previous, ...data] : data);
+      setNextCursor(response.headers.get('X-Next-Cursor'));
+    } else {
+      throw new Error(`Error: ${response.status}`);
+    }
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const response = await fetch(`${BASE_URL}/member/spots/index`, {
-          method: 'POST',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-            'Accept': 'application/json',
-          }
-        });
-
-        if (response.ok) {
-          const data = await response.json();
-          setSpots(data);
-        } else {
-          throw new Error(`Error: ${response.status}`);
-        }
+        await fetchPage(null);
       } catch (error) {
         console.error("An error occurred:", error);
       }
@@ -108,6 +117,14 @@ const ScheduleCreate = () => {
     fetchData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      await fetchPage(nextCursor);
+    } catch (error) {
+      console.error("An error occurred:", error);
+    }
+  };
+
   const handleSpotOptionChange = (e: React.ChangeEvent<HTMLSelectElement>) => {
     const { value } = e.target;
     setSelectedSpotOption(value);
@@ -209,6 +226,11 @@ const ScheduleCreate = () => {
                     <option value="" disabled className="text-body">
                       Select parking spot
                     </option>
+                    {currentSpot && !spots.some(spot => String(spot.spotId) === currentSpot.spotId) && (
+                      <option value={currentSpot.spotId} className="text-body">
+                        {currentSpot.name}
+                      </option>
+                    )}
                     {spots.map(spot => (
                       <option key={spot.spotId} value={spot.spotId} className="text-body">
                         {spot.name}
@@ -236,6 +258,12 @@ const ScheduleCreate = () => {
                     </svg>
                   </span>
                 </div>
+
+                {nextCursor && (
+                  <button type="button" onClick={handleLoadMore} className="mt-2 text-sm text-slate-500 hover:underline">
+                    Load more spots
+                  </button>
+                )}
               </div>
 
               <div className="w-full xl:w-1/2">
@@ -25,35 +25,48 @@ const TableScheduleIndex = () => {
   const [error, setError] = useState<string | null>(null);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(1);
+  const [totalCount, setTotalCount] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const itemsPerPage = PerPage;
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/schedules/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    const contentType = response.headers.get('content-type');
+    if (!contentType || !contentType.includes('application/json')) {
+      throw new Error('Error: Incorrect data');
+    }
+
+    if (!response.ok) {
+      throw new Error(`Error: ${response.status}`);
+    }
+
+    const data = await response.json();
+    const next = response.headers.get('X-Next-Cursor');
+    const total = Number(response.headers.get('X-Total-Count') ?? data.length);
+
+    setSchedules((previous) => cursor ? [...previous, ...data] : data);
+    setNextCursor(next);
+    setTotalCount(total);
+    setTotalPages(Math.ceil(total / itemsPerPage));
+    return { loaded: data.length, next };
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
         setIsLoading(true);
         setError(null);
         
-        const response = await fetch(`${BASE_URL}/member/schedules/index`, {
-          method: 'POST',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-            'Accept': 'application/json',
-          }
-        });
-
-        const contentType = response.headers.get('content-type');
-        if (!contentType || !contentType.includes('application/json')) {
-          throw new Error('Error: Incorrect data');
-        }
-
-        if (!response.ok) {
-          throw new Error(`Error: ${response.status}`);
-        }
-
-        const data = await response.json();
-        setSchedules(data);
-        setTotalPages(Math.ceil(data.length / itemsPerPage));
+        await fetchPage(null);
       } catch (err) {
         setError(err instanceof Error ? err.message : 'An error occurred loading data.');
       } finally {
@@ -76,8 +89,21 @@ const TableScheduleIndex = () => {
   const startIndex = (currentPage - 1) * itemsPerPage;
   const currentSchedules = schedules.slice(startIndex, startIndex + itemsPerPage);
 
-  const handlePageChange = (newPage: number) => {
+  const handlePageChange = async (newPage: number) => {
     if (newPage >= 1 && newPage <= totalPages) {
+      let loaded = schedules.length;
+      let cursor = nextCursor;
+
+      try {
+        while (cursor && loaded < newPage * itemsPerPage) {
+          const page = await fetchPage(cursor);
+          loaded += page.loaded;
+          cursor = page.next;
+        }
+      } catch (err) {
+        setError(err instanceof Error ? err.message : 'An error occurred loading data.');
+      }
+
       setCurrentPage(newPage);
     }
   };
@@ -103,7 +129,8 @@ const TableScheduleIndex = () => {
           const updatedSchedules = schedules.filter(schedule => schedule.id !== id);
           setSchedules(updatedSchedules);
 
-          const newTotalPages = Math.ceil(updatedSchedules.length / itemsPerPage);
+          const newTotalPages = Math.ceil((totalCount - 1) / itemsPerPage);
+          setTotalCount(totalCount - 1);
           setTotalPages(newTotalPages);
 
           if (currentPage > newTotalPages) {
@@ -229,7 +256,7 @@ const TableScheduleIndex = () => {
             </div>
             <div className="hidden sm:flex sm:flex-1 sm:items-center sm:justify-between">
               <p className="text-sm text-slate-500">
-                Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, schedules.length)} of{' '} {schedules.length} results
+                Showing {(currentPage - 1) * itemsPerPage + 1} to {Math.min(currentPage * itemsPerPage, schedules.length)} of{' '} {totalCount} results
               </p>
               <nav aria-label="Pagination" className="isolate inline-flex -space-x-px rounded-md shadow-sm">
                 <button
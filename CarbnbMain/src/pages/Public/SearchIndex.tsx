@@ -130,9 +130,60 @@ const SearchIndex = () => {
   };
 
   useEffect(() => {
+    const priceRanges: Record<string, [string, string]> = {
+      '1': ['', '49.99'],
+      '2': ['50', '100'],
+      '3': ['101', '150'],
+      '4': ['151', '200'],
+      '5': ['200.01', ''],
+    };
+
+    const sizeRanges: Record<string, [string, string, string, string]> = {
+      '1': ['2.4', '', '5', ''],
+      '2': ['1', '2.4', '2', '5'],
+    };
+
+    const sortOptions: Record<string, string> = {
+      '1': 'rating_asc',
+      '2': 'price',
+      '3': 'price_desc',
+      '4': 'charger_price',
+      '5': 'charger_price_desc',
+      '6': 'size',
+      '7': 'size_desc',
+    };
+
     const fetchData = async () => {
+      const params = new URLSearchParams();
+      const setParam = (name: string, value: string | undefined) => {
+        if (value) {
+          params.set(name, value);
+        }
+      };
+
+      setParam('query', query);
+      setParam('spotType', selectedTypeOption);
+      setParam('charger', selectedChargerOption ? String(selectedChargerOption == '1') : '');
+      setParam('sort', sortOptions[selectedSortOption] || 'rating');
+
+      if (formData.scheduleDatetime.length === 2) {
+        const [start, end] = formData.scheduleDatetime.map(date => new Date(date));
+        setParam('startDateTime', format(start, "yyyy-MM-dd'T'HH:mm:ss"));
+        setParam('endDateTime', format(end, "yyyy-MM-dd'T'HH:mm:ss"));
+      }
+
+      const [minPrice, maxPrice] = priceRanges[selectedPriceOption] || ['', ''];
+      setParam('minPrice', minPrice);
+      setParam('maxPrice', maxPrice);
+
+      const [minWidth, maxWidth, minLength, maxLength] = sizeRanges[selectedVehicleOption] || ['', '', '', ''];
+      setParam('minWidth', minWidth);
+      setParam('maxWidth', maxWidth);
+      setParam('minLength', minLength);
+      setParam('maxLength', maxLength);
+
       try {
-        const response = await fetch(`${BASE_URL}/member/schedules/search`, {
+        const response = await fetch(`${BASE_URL}/member/schedules/search?${params.toString()}`, {
           method: 'POST',
           credentials: 'include',
           headers: {
@@ -153,7 +204,7 @@ const SearchIndex = () => {
     };
 
     fetchData();
-  }, []);
+  }, [query, formData.scheduleDatetime, selectedTypeOption, selectedPriceOption, selectedVehicleOption, selectedChargerOption, selectedSortOption]);
 
   const formatDateTime = (isoString: string) => {
     const date = parseISO(isoString);
@@ -175,90 +226,7 @@ const SearchIndex = () => {
     }).format(Number(price));
   };
 
-  const filteredSchedules = schedules
-    .filter((schedule) => {
-      const queryLower = query.toLowerCase();
-      const matchesQuery =
-        (schedule.spotName && schedule.spotName.toLowerCase().includes(queryLower)) ||
-        (schedule.spotAddress && schedule.spotAddress.toLowerCase().includes(queryLower)) ||
-        (schedule.spotDescription && schedule.spotDescription.toLowerCase().includes(queryLower)) ||
-        (schedule.description && schedule.description.toLowerCase().includes(queryLower));
-    
-      const matchesDuration = () => {
-        if (formData.scheduleDatetime.length === 2) {
-          const [selectedStart, selectedEnd] = formData.scheduleDatetime.map(date => new Date(date));
-    
-          const scheduleStart = new Date(schedule.startDateTime);
-          const scheduleEnd = new Date(schedule.endDateTime);
-    
-          return (scheduleStart <= selectedStart && scheduleEnd >= selectedEnd);
-        }
-        return true;
-      };
-      
-      const matchesType = selectedTypeOption
-        ? (selectedTypeOption == '1' && schedule.spotType == '1') || (selectedTypeOption == '2' && schedule.spotType == '2')
-        : true;
-    
-      const price = parseFloat(schedule.pricePerHour);
-      const matchesPrice = selectedPriceOption
-        ? selectedPriceOption == '1' && price < 50 ||
-          selectedPriceOption == '2' && price >= 50 && price <= 100 ||
-          selectedPriceOption == '3' && price >= 101 && price <= 150 ||
-          selectedPriceOption == '4' && price >= 151 && price <= 200 ||
-          selectedPriceOption == '5' && price > 200
-        : true;
-    
-      const width = parseFloat(schedule.spotSizeWidth);
-      const length = parseFloat(schedule.spotSizeLength);
-      const matchesVehicle = selectedVehicleOption
-        ? (selectedVehicleOption == '1' && width >= 2.4 && length >= 5) ||
-          (selectedVehicleOption == '2' && width >= 1 && width < 2.4 && length >= 2 && length < 5)
-        : true;
-    
-      const matchesCharger = selectedChargerOption
-        ? (selectedChargerOption == '1' && schedule.charger) || (selectedChargerOption == '2' && !schedule.charger)
-        : true;
-    
-      return matchesQuery && matchesDuration() && matchesType && matchesPrice && matchesVehicle && matchesCharger;
-    })
-    .sort((a, b) => {
-      const sizeA = parseFloat(a.spotSizeWidth) * parseFloat(a.spotSizeLength);
-      const sizeB = parseFloat(b.spotSizeWidth) * parseFloat(b.spotSizeLength);
-      const priceA = parseFloat(a.pricePerHour);
-      const priceB = parseFloat(b.pricePerHour);
-      const chargePriceA = parseFloat(a.chargerPrice || '0');
-      const chargePriceB = parseFloat(b.chargerPrice || '0');
-      const reviewsA = parseFloat(a.reviews || '0');
-      const reviewsB = parseFloat(b.reviews || '0');
-  
-      switch (selectedSortOption) {
-        case null:
-          return reviewsB - reviewsA;
-        case '1':
-          return reviewsA - reviewsB;
-        case '2':
-          return priceA - priceB;
-        case '3':
-          return priceB - priceA;
-        case '4':
-          if (chargePriceA == 0 && chargePriceB == 0) return 0;
-          if (chargePriceA == 0) return 1;
-          if (chargePriceB == 0) return -1;
-          return chargePriceA - chargePriceB;
-        case '5':
-          if (chargePriceA == 0 && chargePriceB == 0) return 0;
-          if (chargePriceA == 0) return 1;
-          if (chargePriceB == 0) return -1;
-          return chargePriceB - chargePriceA;
-        case '6':
-          return sizeA - sizeB;
-        case '7':
-          return sizeB - sizeA;
-        default:
-          return reviewsB - reviewsA;
-      }
-    });
+  const filteredSchedules = schedules;
 
   const handleReset = () => {
     setFormData({
@@ -21,26 +21,33 @@ const ReservationEdit = () => {
   const navigate = useNavigate();
   const [error, setError] = useState<string | null>(null);
   const [vehicles, setVehicles] = useState<Vehicle[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [selectedVehicleOption, setSelectedVehicleOption] = useState<string>('');
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/vehicles/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    if (response.ok) {
+      const data = await response.json();
+      setVehicles((previous) => cursor ? [...previous, ...data] : data);
+      setNextCursor(response.headers.get('X-Next-Cursor'));
+    } else {
+      throw new Error(`Error: ${response.status}`);
+    }
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const response = await fetch(`${BASE_URL}/member/vehicles/index`, {
-          method: 'POST',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-            'Accept': 'application/json',
-          }
-        });
-
-        if (response.ok) {
-          const data = await response.json();
-          setVehicles(data);
-        } else {
-          throw new Error(`Error: ${response.status}`);
-        }
+        await fetchPage(null);
       } catch (error) {
         console.error("An error occurred:", error);
       }
@@ -49,6 +56,14 @@ const ReservationEdit = () => {
     fetchData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      await fetchPage(nextCursor);
+    } catch (error) {
+      console.error("An error occurred:", error);
+    }
+  };
+
   const handleVehicleOptionChange = (vehicleId: string) => {
     console.log('Selected value:', vehicleId);
     setSelectedVehicleOption(vehicleId);
@@ -183,6 +198,12 @@ const ReservationEdit = () => {
                   );
                 })}
               </div>
+
+              {nextCursor && (
+                <button type="button" onClick={handleLoadMore} className="mt-2 text-sm text-slate-500 hover:underline">
+                  Load more vehicles
+                </button>
+              )}
             </div>
 
             <button className="flex justify-center rounded-full bg-gray-900 py-3 px-12 font-medium text-white hover:bg-opacity-90">
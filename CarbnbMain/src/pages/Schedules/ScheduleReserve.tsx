@@ -92,6 +92,7 @@ const ScheduleReserve = () => {
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [vehicles, setVehicles] = useState<Vehicle[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [selectedVehicleOption, setSelectedVehicleOption] = useState<string>('');
   const [selectedVehicleLicensePlateOption, setSelectedVehicleLicensePlateOption] = useState<string>('');
   const [selectedPaymentMethodOption, setSelectedPaymentMethodOption] = useState<string>('');
@@ -276,24 +277,30 @@ const ScheduleReserve = () => {
     return availableTimeRanges;
   };
 
+  const fetchPage = async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`${BASE_URL}/member/vehicles/index${query}`, {
+      method: 'POST',
+      credentials: 'include',
+      headers: {
+        'Content-Type': 'application/json',
+        'Accept': 'application/json',
+      }
+    });
+
+    if (response.ok) {
+      const data = await response.json();
+      setVehicles((previous) => cursor ? [...previous, ...data] : data);
+      setNextCursor(response.headers.get('X-Next-Cursor'));
+    } else {
+      throw new Error(`Error: ${response.status}`);
+    }
+  };
+
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const response = await fetch(`${BASE_URL}/member/vehicles/index`, {
-          method: 'POST',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-            'Accept': 'application/json',
-          }
-        });
-
-        if (response.ok) {
-          const data = await response.json();
-          setVehicles(data);
-        } else {
-          throw new Error(`Error: ${response.status}`);
-        }
+        await fetchPage(null);
       } catch (error) {
         console.error("An error occurred:", error);
       }
@@ -302,6 +309,14 @@ const ScheduleReserve = () => {
     fetchData();
   }, []);
 
+  const handleLoadMore = async () => {
+    try {
+      await fetchPage(nextCursor);
+    } catch (error) {
+      console.error("An error occurred:", error);
+    }
+  };
+
   const handleVehicleOptionChange = (vehicleId: string, vehicleLicensePlate: string) => {
     setSelectedVehicleOption(vehicleId);
     setSelectedVehicleLicensePlateOption(vehicleLicensePlate);
@@ -463,7 +478,7 @@ const ScheduleReserve = () => {
       if (response.ok) {
         const created = await response.json();
 
-        if(created != null) {
+        if(created != null && created > 0) {
           setReservationId(created);
 
           const formDataPaymentToSend = new FormData();
@@ -723,6 +738,12 @@ const ScheduleReserve = () => {
                     );
                   })}
                 </div>
+
+                {nextCursor && (
+                  <button type="button" onClick={handleLoadMore} className="mt-2 text-sm text-slate-500 hover:underline">
+                    Load more vehicles
+                  </button>
+                )}
               </div>
             </div>
           </div>
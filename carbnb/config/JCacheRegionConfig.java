@@ -0,0 +1,87 @@
+package com.project.carbnb.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+@ConditionalOnClass(name = { SecondLevelCacheConfig.REGION_FACTORY, SecondLevelCacheConfig.CACHING_PROVIDER })
+@ConditionalOnProperty(name = "carbnb.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class JCacheRegionConfig {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private CacheManager cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(
+            @Value("${carbnb.cache.users.max-size:10000}") long usersMaxSize,
+            @Value("${carbnb.cache.users.ttl:10m}") Duration usersTtl,
+            @Value("${carbnb.cache.schedules.max-size:20000}") long schedulesMaxSize,
+            @Value("${carbnb.cache.schedules.ttl:10m}") Duration schedulesTtl,
+            @Value("${carbnb.cache.files.max-size:50000}") long filesMaxSize,
+            @Value("${carbnb.cache.files.ttl:30m}") Duration filesTtl,
+            @Value("${carbnb.cache.queries.max-size:10000}") long queriesMaxSize,
+            @Value("${carbnb.cache.queries.ttl:5m}") Duration queriesTtl,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return properties -> {
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            cacheManager = provider.getCacheManager(provider.getDefaultURI(), JCacheRegionConfig.class.getClassLoader());
+
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            create("users", usersMaxSize, usersTtl, registry);
+            create("schedules", schedulesMaxSize, schedulesTtl, registry);
+            create("files", filesMaxSize, filesTtl, registry);
+            create(QUERY_REGION, queriesMaxSize, queriesTtl, registry);
+            create(TIMESTAMPS_REGION, queriesMaxSize, null, registry);
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    private void create(String name, long maxSize, Duration ttl, MeterRegistry registry) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setStatisticsEnabled(true);
+
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+
+        Cache<Object, Object> cache = cacheManager.getCache(name) != null ? cacheManager.getCache(name) : cacheManager.createCache(name, configuration);
+
+        if (registry != null) {
+            JCacheMetrics.monitor(registry, cache, Tags.of("layer", "hibernate"));
+        }
+    }
+}
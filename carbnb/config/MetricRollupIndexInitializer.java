@@ -0,0 +1,24 @@
+package com.project.carbnb.config;
+
+import com.project.carbnb.entity.MetricRollup;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MetricRollupIndexInitializer implements ApplicationRunner {
+
+    private MongoTemplate mongoTemplate;
+
+    public MetricRollupIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mongoTemplate.indexOps(MetricRollup.class).ensureIndex(new Index().on("metric", Sort.Direction.ASC).on("granularity", Sort.Direction.ASC).on("bucket", Sort.Direction.ASC).named("idx_metric_rollups_range"));
+    }
+}
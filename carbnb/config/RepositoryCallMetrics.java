@@ -0,0 +1,189 @@
+package com.project.carbnb.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.BaseStream;
+import java.util.stream.Collectors;
+
+@Component
+public class RepositoryCallMetrics extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryCallMetrics.class);
+    private static final String REQUEST_ATTRIBUTE = RepositoryCallMetrics.class.getName() + ".calls";
+    private static final String NO_ENDPOINT = "none";
+
+    private ObjectProvider<MeterRegistry> meterRegistry;
+    private int queryBudget;
+
+    public RepositoryCallMetrics(ObjectProvider<MeterRegistry> meterRegistry, @Value("${carbnb.repository.query-budget:50}") int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    public Object record(String repository, MethodInvocation invocation) throws Throwable {
+        long startedAt = System.nanoTime();
+        Object result = null;
+
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            String method = invocation.getMethod().getName();
+            String endpoint = endpoint();
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+
+            if (registry != null) {
+                Timer.builder("carbnb.repository.calls")
+                        .tags("repository", repository, "method", method, "endpoint", endpoint)
+                        .publishPercentileHistogram()
+                        .register(registry)
+                        .record(elapsed, TimeUnit.NANOSECONDS);
+
+                long rows = rows(result);
+
+                if (rows >= 0) {
+                    DistributionSummary.builder("carbnb.repository.rows")
+                            .tags("repository", repository, "method", method, "endpoint", endpoint)
+                            .register(registry)
+                            .record(rows);
+                }
+            }
+
+            Calls calls = calls();
+
+            if (calls != null) {
+                calls.add(repository + "." + method);
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean owner = request.getAttribute(REQUEST_ATTRIBUTE) == null;
+
+        if (owner) {
+            request.setAttribute(REQUEST_ATTRIBUTE, new Calls());
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Calls calls = (Calls) request.getAttribute(REQUEST_ATTRIBUTE);
+
+            if (owner && calls != null) {
+                String endpoint = request.getMethod() + " " + pattern(request);
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+
+                if (registry != null) {
+                    DistributionSummary.builder("carbnb.request.repository.calls")
+                            .tag("endpoint", endpoint)
+                            .register(registry)
+                            .record(calls.total.get());
+                }
+
+                if (calls.total.get() > queryBudget) {
+                    log.warn("{} made {} repository calls (budget {}): {}", endpoint, calls.total.get(), queryBudget, calls.summary());
+                }
+            }
+        }
+    }
+
+    private static Calls calls() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request == null) {
+            return null;
+        }
+
+        Calls calls = (Calls) request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (calls == null) {
+            calls = new Calls();
+            request.setAttribute(REQUEST_ATTRIBUTE, calls, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return calls;
+    }
+
+    private static String endpoint() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request == null) {
+            return NO_ENDPOINT;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : NO_ENDPOINT;
+    }
+
+    private static String pattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : NO_ENDPOINT;
+    }
+
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+
+        if (result instanceof Number || result instanceof Boolean || result instanceof Iterable || result instanceof BaseStream) {
+            return -1;
+        }
+
+        return 1;
+    }
+
+    private static class Calls {
+
+        private final AtomicInteger total = new AtomicInteger();
+        private final Map<String, AtomicInteger> methods = new ConcurrentHashMap<>();
+
+        private void add(String method) {
+            total.incrementAndGet();
+            methods.computeIfAbsent(method, key -> new AtomicInteger()).incrementAndGet();
+        }
+
+        private String summary() {
+            return methods.entrySet().stream()
+                    .sorted((a, b) -> Integer.compare(b.getValue().get(), a.getValue().get()))
+                    .map(entry -> entry.getKey() + "=" + entry.getValue().get())
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.carbnb.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+
+@Configuration
+public class RepositoryMetricsConfig {
+
+    // ahead of the security chain so repository calls made while authenticating are counted
+    @Bean
+    public FilterRegistrationBean<RepositoryCallMetrics> repositoryCallMetricsFilter(RepositoryCallMetrics repositoryCallMetrics) {
+        FilterRegistrationBean<RepositoryCallMetrics> registration = new FilterRegistrationBean<>(repositoryCallMetrics);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<RepositoryCallMetrics> repositoryCallMetrics) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof Repository && bean instanceof Advised advised && !advised.isFrozen()) {
+                    MethodInterceptor interceptor = invocation -> repositoryCallMetrics.getObject().record(beanName, invocation);
+                    advised.addAdvice(0, interceptor);
+                }
+
+                return bean;
+            }
+        };
+    }
+}
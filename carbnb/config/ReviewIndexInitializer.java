@@ -0,0 +1,24 @@
+package com.project.carbnb.config;
+
+import com.project.carbnb.entity.Review;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewIndexInitializer implements ApplicationRunner {
+
+    private MongoTemplate mongoTemplate;
+
+    public ReviewIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mongoTemplate.indexOps(Review.class).ensureIndex(new Index().on("host_id", Sort.Direction.ASC).on("schedule_status", Sort.Direction.ASC).on("status", Sort.Direction.ASC).on("created_at", Sort.Direction.DESC).on("review_id", Sort.Direction.DESC).named("idx_reviews_host_schedule_status"));
+    }
+}
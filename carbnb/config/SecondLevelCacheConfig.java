@@ -0,0 +1,37 @@
+package com.project.carbnb.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+    static final String REGION_FACTORY = "org.hibernate.cache.jcache.internal.JCacheRegionFactory";
+    static final String CACHING_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheFallback(@Value("${carbnb.cache.second-level.enabled:true}") boolean enabled) {
+        return properties -> {
+            boolean available = ClassUtils.isPresent(REGION_FACTORY, null) && ClassUtils.isPresent(CACHING_PROVIDER, null);
+
+            if (enabled && available) {
+                return;
+            }
+
+            if (enabled) {
+                log.warn("Second-level cache disabled: hibernate-jcache or the Caffeine JCache provider is not on the classpath");
+            }
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.carbnb.config;
+
+import com.project.carbnb.entity.Spot;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+public class SpotIndexInitializer implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private MongoTemplate mongoTemplate;
+
+    public SpotIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mongoTemplate.indexOps(Spot.class).ensureIndex(new GeospatialIndex("position").typed(GeoSpatialIndexType.GEO_2DSPHERE));
+        mongoTemplate.indexOps(Spot.class).ensureIndex(new Index().on("type", Sort.Direction.ASC).on("size_width", Sort.Direction.ASC).on("size_length", Sort.Direction.ASC).named("idx_spots_type_size"));
+        mongoTemplate.indexOps(Spot.class).ensureIndex(new Index().on("search_terms", Sort.Direction.ASC).named("idx_spots_search_terms"));
+        mongoTemplate.indexOps(Spot.class).ensureIndex(new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .onField("name", 3F)
+                .onField("address", 2F)
+                .onField("description")
+                .withDefaultLanguage("none")
+                .named("idx_spots_text")
+                .build());
+        backfillPositions();
+    }
+
+    private void backfillPositions() {
+        Query query = Query.query(Criteria.where("position").exists(false)
+                .and("latitude").ne(null)
+                .and("longitude").ne(null));
+        query.limit(BATCH_SIZE);
+
+        List<Spot> spots = mongoTemplate.find(query, Spot.class);
+
+        while (!spots.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Spot.class);
+
+            for (Spot spot : spots) {
+                operations.updateOne(
+                        Query.query(Criteria.where("id").is(spot.getId())),
+                        Update.update("position", new GeoJsonPoint(spot.getLongitude(), spot.getLatitude()))
+                );
+            }
+
+            operations.execute();
+            spots = mongoTemplate.find(query, Spot.class);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.carbnb.config;
 
+import com.project.carbnb.controller.PageHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,12 +46,14 @@ public class SpringSecurity {
                                 .requestMatchers("/member/users/show/**").permitAll()
                                 .requestMatchers("/member/schedules/search").permitAll()
                                 .requestMatchers("/member/schedules/display/**").permitAll()
+                                .requestMatchers("/member/schedules/availability/**").permitAll()
                                 .requestMatchers("/member/schedules/user/**").permitAll()
                                 .requestMatchers("/member/schedules/spot/**").permitAll()
                                 .requestMatchers("/member/reservations/schedule/**").permitAll()
                                 .requestMatchers("/member/reservations/user/**").permitAll()
                                 .requestMatchers("/member/spots/display/**").permitAll()
                                 .requestMatchers("/member/spots/user/**").permitAll()
+                                .requestMatchers("/member/spots/nearby").permitAll()
                                 .requestMatchers("/member/reviews/schedule/**").permitAll()
                                 .requestMatchers("/member/**").hasAuthority("member")
                                 .requestMatchers("/admin").hasAuthority("admin")
@@ -86,7 +89,7 @@ public class SpringSecurity {
                 "access-control-allow-credentials"
         ));
 
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", PageHeaders.NEXT_CURSOR, PageHeaders.TOTAL_COUNT));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
@@ -0,0 +1,29 @@
+package com.project.carbnb.controller;
+
+import com.project.carbnb.dto.PageDto;
+import org.springframework.http.ResponseEntity;
+import java.util.List;
+
+public class PageHeaders {
+
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    private PageHeaders() {}
+
+    public static <T> ResponseEntity<List<T>> of(PageDto<T> page, long count) {
+        return of(page, ResponseEntity.ok().header(TOTAL_COUNT, String.valueOf(count)));
+    }
+
+    public static <T> ResponseEntity<List<T>> of(PageDto<T> page) {
+        return of(page, ResponseEntity.ok());
+    }
+
+    private static <T> ResponseEntity<List<T>> of(PageDto<T> page, ResponseEntity.BodyBuilder response) {
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR, page.getNextCursor());
+        }
+
+        return response.body(page.getItems());
+    }
+}
@@ -1,16 +1,58 @@
 package com.project.carbnb.controller.admin;
 
+import com.project.carbnb.entity.MetricRollup;
+import com.project.carbnb.service.MetricRollupService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Controller
 public class DashboardController {
 
+    private static final List<String> METRICS = Arrays.asList(
+            MetricRollupService.BOOKINGS,
+            MetricRollupService.REVENUE,
+            MetricRollupService.WITHDRAWALS,
+            MetricRollupService.USERS
+    );
+    private static final int DAYS = 30;
+
+    private MetricRollupService metricRollupService;
+
+    public DashboardController(MetricRollupService metricRollupService) {
+        this.metricRollupService = metricRollupService;
+    }
+
     @GetMapping("admin")
     public String index(Model model) {
+        Instant now = Instant.now();
+        Instant today = now.truncatedTo(ChronoUnit.DAYS);
+        Map<String, List<MetricRollup>> daily = new LinkedHashMap<>();
+        Map<String, List<MetricRollup>> hourly = new LinkedHashMap<>();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, BigDecimal> sums = new LinkedHashMap<>();
+
+        for (String metric : METRICS) {
+            List<MetricRollup> series = metricRollupService.range(metric, MetricRollupService.DAY, today.minus(DAYS - 1, ChronoUnit.DAYS), now);
+            daily.put(metric, series);
+            hourly.put(metric, metricRollupService.range(metric, MetricRollupService.HOUR, today, now));
+            counts.put(metric, series.stream().mapToLong(MetricRollup::getCount).sum());
+            sums.put(metric, series.stream().map(MetricRollup::getSum).reduce(BigDecimal.ZERO, BigDecimal::add));
+        }
+
         model.addAttribute("title", "Dashboard");
         model.addAttribute("route", "dashboard");
+        model.addAttribute("daily", daily);
+        model.addAttribute("hourly", hourly);
+        model.addAttribute("counts", counts);
+        model.addAttribute("sums", sums);
         return "admin/dashboard";
     }
 
@@ -3,6 +3,7 @@ package com.project.carbnb.controller.admin;
 import com.project.carbnb.dto.UserDto;
 import com.project.carbnb.entity.File;
 import com.project.carbnb.entity.User;
+import com.project.carbnb.service.BalanceLedgerService;
 import com.project.carbnb.service.FileUploadService;
 import com.project.carbnb.service.UserService;
 import jakarta.validation.Valid;
@@ -12,6 +13,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import java.math.BigDecimal;
 import java.util.List;
 
 @Controller
@@ -20,10 +22,12 @@ public class UserController {
 
     private UserService userService;
     private FileUploadService fileUploadService;
+    private BalanceLedgerService balanceLedgerService;
 
-    public UserController(UserService userService, FileUploadService fileUploadService) {
+    public UserController(UserService userService, FileUploadService fileUploadService, BalanceLedgerService balanceLedgerService) {
         this.userService = userService;
         this.fileUploadService = fileUploadService;
+        this.balanceLedgerService = balanceLedgerService;
     }
 
     @GetMapping
@@ -185,6 +189,12 @@ public class UserController {
         }
 
         userService.updateData(user, userDto);
+
+        if (userDto.getBalance() != null) {
+            BigDecimal currentBalance = user.getBalance() != null ? user.getBalance() : BigDecimal.ZERO;
+            balanceLedgerService.adjust(user.getId(), userDto.getBalance().subtract(currentBalance));
+        }
+
         redirectAttributes.addFlashAttribute("success", "User updated successfully");
         return "redirect:/admin/users/" + user.getId() + "/edit";
     }
@@ -1,5 +1,7 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.PaymentDto;
 import com.project.carbnb.entity.Reservation;
 import com.project.carbnb.entity.Schedule;
@@ -27,8 +29,13 @@ public class MemberPaymentController {
     }
 
     @PostMapping("/index")
-    public List<PaymentDto> index() {
-        return paymentService.findByUserId(userService.userAuth().getId());
+    public ResponseEntity<List<PaymentDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<PaymentDto> payments = paymentService.findByUserId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(payments, paymentService.countByUserId(userId));
     }
 
     @PostMapping("/store/{id}")
@@ -0,0 +1,35 @@
+package com.project.carbnb.controller.member;
+
+import com.project.carbnb.dto.EarningsReportDto;
+import com.project.carbnb.service.EarningsReportService;
+import com.project.carbnb.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("member/reports")
+public class MemberReportController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private EarningsReportService earningsReportService;
+    private UserService userService;
+
+    public MemberReportController(EarningsReportService earningsReportService, UserService userService) {
+        this.earningsReportService = earningsReportService;
+        this.userService = userService;
+    }
+
+    @PostMapping("/earnings")
+    public EarningsReportDto earnings(
+            @RequestParam(value = "granularity", defaultValue = EarningsReportService.DAY) String granularity,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        return earningsReportService.report(userService.userAuth().getId(), granularity, start, end);
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ReservationDto;
+import com.project.carbnb.dto.ReservationSummaryDto;
 import com.project.carbnb.dto.ScheduleDto;
 import com.project.carbnb.dto.VehicleDto;
 import com.project.carbnb.entity.Schedule;
@@ -32,9 +35,18 @@ public class MemberReservationController {
     }
 
     @PostMapping("/index")
-    public List<ReservationDto> index() {
-        List<ScheduleDto> schedules = scheduleService.findByUserId(userService.userAuth().getId());
-        return reservationService.findBySchedule(schedules);
+    public ResponseEntity<List<ReservationDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<ReservationDto> reservations = reservationService.findByHostId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(reservations, reservationService.countByHostId(userId));
+    }
+
+    @PostMapping("/summary")
+    public ReservationSummaryDto summary() {
+        return reservationService.summarizeByHostId(userService.userAuth().getId());
     }
 
     @PostMapping("/list")
@@ -1,5 +1,7 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ReviewDto;
 import com.project.carbnb.dto.ReservationDto;
 import com.project.carbnb.dto.ScheduleDto;
@@ -29,10 +31,13 @@ public class MemberReviewController {
     }
 
     @PostMapping("/index")
-    public List<ReviewDto> index() {
-        List<ScheduleDto> schedules = scheduleService.findByUserId(userService.userAuth().getId());
-        List<ReservationDto> reservations = reservationService.findBySchedule(schedules);
-        return reviewService.findByReservation(reservations);
+    public ResponseEntity<List<ReviewDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long hostId = userService.userAuth().getId();
+        PageDto<ReviewDto> reviews = reviewService.findByHostId(hostId, cursor, PageDto.limit(size));
+        return PageHeaders.of(reviews, reviewService.countByHostId(hostId));
     }
 
     @PostMapping("/schedule/{id}")
@@ -1,11 +1,19 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.AvailabilityDto;
 import com.project.carbnb.dto.ScheduleDto;
+import com.project.carbnb.dto.ScheduleSearchDto;
+import com.project.carbnb.entity.Schedule;
 import com.project.carbnb.entity.User;
+import com.project.carbnb.service.AvailabilityService;
 import com.project.carbnb.service.ScheduleService;
 import com.project.carbnb.service.UserService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -18,20 +26,43 @@ public class MemberScheduleController {
 
     private ScheduleService scheduleService;
     private UserService userService;
+    private AvailabilityService availabilityService;
 
-    public MemberScheduleController(ScheduleService scheduleService, UserService userService) {
+    public MemberScheduleController(ScheduleService scheduleService, UserService userService, AvailabilityService availabilityService) {
         this.scheduleService = scheduleService;
         this.userService = userService;
+        this.availabilityService = availabilityService;
     }
 
     @PostMapping("/index")
-    public List<ScheduleDto> index() {
-        return scheduleService.findByUserId(userService.userAuth().getId());
+    public ResponseEntity<List<ScheduleDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<ScheduleDto> schedules = scheduleService.findByUserId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(schedules, scheduleService.countByUserId(userId));
     }
 
     @PostMapping("/search")
-    public List<ScheduleDto> search() {
-        return scheduleService.findStatus();
+    public ResponseEntity<List<ScheduleDto>> search(
+            @ModelAttribute ScheduleSearchDto search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        PageDto<ScheduleDto> schedules = scheduleService.search(search, cursor, PageDto.limit(size));
+        return PageHeaders.of(schedules);
+    }
+
+    @PostMapping("/availability/{id}")
+    public List<AvailabilityDto> availability(@PathVariable Long id) {
+        Schedule schedule = scheduleService.findOpenById(id);
+
+        if (schedule == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Schedule not found");
+        }
+
+        return availabilityService.findFreeSlots(schedule);
     }
 
     @PostMapping("/display/{id}")
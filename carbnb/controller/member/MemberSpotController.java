@@ -1,6 +1,8 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
 import com.project.carbnb.dto.BookmarkDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ScheduleDto;
 import com.project.carbnb.dto.SpotDto;
 import com.project.carbnb.entity.User;
@@ -43,8 +45,13 @@ public class MemberSpotController {
     }
 
     @PostMapping("/index")
-    public List<SpotDto> index() {
-        return spotService.findByUserId(userService.userAuth().getId());
+    public ResponseEntity<List<SpotDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<SpotDto> spots = spotService.findByUserId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(spots, spotService.countByUserId(userId));
     }
 
     @PostMapping("/user/{username}")
@@ -154,6 +161,27 @@ public class MemberSpotController {
         return spotService.findById(id);
     }
 
+    @PostMapping("/search")
+    public ResponseEntity<List<SpotDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") Integer size
+    ) {
+        PageDto<SpotDto> spots = spotService.search(query, cursor, PageDto.limit(size));
+        return PageHeaders.of(spots, spotService.countSearch(query));
+    }
+
+    @PostMapping("/nearby")
+    public PageDto<SpotDto> nearby(
+            @RequestParam("lat") Double latitude,
+            @RequestParam("lng") Double longitude,
+            @RequestParam(value = "radius", defaultValue = "5") Double radius,
+            @RequestParam(value = "limit", defaultValue = "20") Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return spotService.findNearby(latitude, longitude, radius, Math.min(Math.max(limit, 1), 100), cursor);
+    }
+
     @PostMapping("/bookmark")
     public List<SpotDto> bookmark() {
         List<BookmarkDto> bookmarks = bookmarkService.findByUserId(userService.userAuth().getId());
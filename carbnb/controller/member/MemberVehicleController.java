@@ -1,5 +1,7 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.VehicleDto;
 import com.project.carbnb.service.FileUploadService;
 import com.project.carbnb.service.VehicleService;
@@ -26,8 +28,13 @@ public class MemberVehicleController {
     }
 
     @PostMapping("/index")
-    public List<VehicleDto> index() {
-        return vehicleService.findByUserId(userService.userAuth().getId());
+    public ResponseEntity<List<VehicleDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<VehicleDto> vehicles = vehicleService.findByUserId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(vehicles, vehicleService.countByUserId(userId));
     }
 
     @PostMapping("/store")
@@ -1,6 +1,9 @@
 package com.project.carbnb.controller.member;
 
+import com.project.carbnb.controller.PageHeaders;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.WithdrawalDto;
+import com.project.carbnb.dto.WithdrawalSummaryDto;
 import com.project.carbnb.service.WithdrawalService;
 import com.project.carbnb.service.UserService;
 import org.springframework.http.ResponseEntity;
@@ -21,8 +24,18 @@ public class MemberWithdrawalController {
     }
 
     @PostMapping("/index")
-    public List<WithdrawalDto> index() {
-        return withdrawalService.findByUserId(userService.userAuth().getId());
+    public ResponseEntity<List<WithdrawalDto>> index(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") Integer size
+    ) {
+        Long userId = userService.userAuth().getId();
+        PageDto<WithdrawalDto> withdrawals = withdrawalService.findByUserId(userId, cursor, PageDto.limit(size));
+        return PageHeaders.of(withdrawals, withdrawalService.countByUserId(userId));
+    }
+
+    @PostMapping("/summary")
+    public WithdrawalSummaryDto summary() {
+        return withdrawalService.summarizeByUserId(userService.userAuth().getId());
     }
 
     @PostMapping("/store")
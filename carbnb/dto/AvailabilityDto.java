@@ -0,0 +1,18 @@
+package com.project.carbnb.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDto {
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+}
@@ -0,0 +1,27 @@
+package com.project.carbnb.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EarningsPeriodDto {
+
+    private LocalDate start;
+
+    private BigDecimal revenue;
+
+    private Long payments;
+
+    private BigDecimal bookedHours;
+
+    private BigDecimal availableHours;
+
+    private BigDecimal occupancy;
+}
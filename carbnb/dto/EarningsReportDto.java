@@ -0,0 +1,34 @@
+package com.project.carbnb.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EarningsReportDto {
+
+    private String granularity;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private BigDecimal revenue;
+
+    private Long payments;
+
+    private BigDecimal bookedHours;
+
+    private BigDecimal availableHours;
+
+    private BigDecimal occupancy;
+
+    private List<EarningsPeriodDto> periods;
+}
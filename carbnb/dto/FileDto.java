@@ -30,6 +30,12 @@ public class FileDto {
     @NotEmpty(message = "Path should not be empty")
     private String path;
 
+    private String hash;
+    private Long size;
+    private String contentType;
+    private String thumbnailPath;
+    private String mediumPath;
+
     private Instant createdAt;
     private Instant updatedAt;
 }
\ No newline at end of file
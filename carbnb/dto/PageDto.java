@@ -0,0 +1,29 @@
+package com.project.carbnb.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDto<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    public static int limit(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
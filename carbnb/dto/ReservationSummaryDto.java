@@ -0,0 +1,28 @@
+package com.project.carbnb.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSummaryDto {
+
+    private Long todayCount;
+
+    private Long totalCount;
+
+    private Long upcomingCount;
+
+    private Long completedCount;
+
+    private Long canceledCount;
+
+    private BigDecimal todayEarnings;
+
+    private BigDecimal totalEarnings;
+}
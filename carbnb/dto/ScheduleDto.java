@@ -68,6 +68,7 @@ public class ScheduleDto {
     private String scheduleDatetime;
 
     private Float reviews;
+    private Long reviewCount;
 
     private Instant createdAt;
     private Instant updatedAt;
@@ -0,0 +1,38 @@
+package com.project.carbnb.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSearchDto {
+
+    private String query;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startDateTime;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endDateTime;
+
+    private Short spotType;
+
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+
+    private Boolean charger;
+
+    private BigDecimal minWidth;
+    private BigDecimal maxWidth;
+    private BigDecimal minLength;
+    private BigDecimal maxLength;
+
+    private String sort;
+}
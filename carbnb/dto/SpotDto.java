@@ -62,6 +62,7 @@ public class SpotDto {
 
     private Double latitude;
     private Double longitude;
+    private Double distance;
 
     private String username;
     private String firstName;
@@ -69,6 +70,9 @@ public class SpotDto {
     private String phoneNumber;
     private String userImagePath;
 
+    private Float reviews;
+    private Long reviewCount;
+
     private Instant createdAt;
     private Instant updatedAt;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.project.carbnb.dto;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Map;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -62,6 +63,11 @@ public class UserDto {
     @Digits(integer = 7, fraction = 2, message = "Invalid balance")
     private BigDecimal balance;
 
+    private Float reviews;
+    private Long reviewCount;
+
+    private Map<String, Long> reviewHistogram;
+
     private Instant createdAt;
     private Instant updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.project.carbnb.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WithdrawalSummaryDto {
+
+    private BigDecimal pending;
+
+    private BigDecimal completed;
+
+    private BigDecimal canceled;
+}
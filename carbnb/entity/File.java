@@ -4,6 +4,8 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -14,7 +16,9 @@ import lombok.AllArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="files")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "files")
+@Table(name="files", indexes = @Index(name = "idx_files_hash", columnList = "hash"))
 public class File implements Serializable {
 
     @Serial
@@ -34,6 +38,23 @@ public class File implements Serializable {
     private String name;
     private String path;
 
+    @Column(length = 64)
+    private String hash;
+
+    private Long size;
+
+    @Column(name="content_type")
+    private String contentType;
+
+    @Column(name="thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name="medium_path")
+    private String mediumPath;
+
+    @Column(name="derivative_attempts")
+    private Integer derivativeAttempts;
+
     @Column(name="created_at", nullable=false, updatable=false)
     private Instant createdAt;
 
@@ -0,0 +1,35 @@
+package com.project.carbnb.entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "geocodes")
+public class Geocode implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String id;
+
+    @Field("latitude")
+    private Double latitude;
+
+    @Field("longitude")
+    private Double longitude;
+
+    @Field("created_at")
+    private Instant createdAt;
+}
@@ -0,0 +1,59 @@
+package com.project.carbnb.entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name="ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_user", columnList = "user_id, created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ledger_entries_reference", columnNames = {"type", "reference_id"})
+})
+public class LedgerEntry implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final short PAYMENT_CREDIT = 1;
+    public static final short WITHDRAWAL_DEBIT = 2;
+    public static final short ADJUSTMENT = 3;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable=false, columnDefinition = "NUMERIC(1,0)")
+    private Short type;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @Column(nullable=false, precision = 11, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable=false, precision = 11, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name="created_at", nullable=false, updatable=false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.carbnb.entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "metric_rollups")
+public class MetricRollup implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String id;
+
+    @Field("metric")
+    private String metric;
+
+    @Field("granularity")
+    private String granularity;
+
+    @Field("bucket")
+    private Instant bucket;
+
+    @Field("count")
+    private Long count;
+
+    @Field(value = "sum", targetType = FieldType.DECIMAL128)
+    private BigDecimal sum;
+
+    @Field("updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.project.carbnb.entity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "rating_aggregates")
+public class RatingAggregate implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String id;
+
+    @Field("scope")
+    private String scope;
+
+    @Field("target_id")
+    private Long targetId;
+
+    @Field("count")
+    private Long count;
+
+    @Field("sum")
+    private Long sum;
+
+    @Field("histogram")
+    private Map<String, Long> histogram;
+
+    @Field("updated_at")
+    private Instant updatedAt;
+}
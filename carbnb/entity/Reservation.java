@@ -15,7 +15,7 @@ import lombok.AllArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="reservations")
+@Table(name="reservations", indexes = @Index(name = "idx_reservations_schedule_start", columnList = "schedule_id, start_datetime"))
 public class Reservation implements Serializable {
 
     @Serial
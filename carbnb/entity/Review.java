@@ -33,6 +33,12 @@ public class Review implements Serializable {
     @Field("reservation_id")
     private Long reservation;
 
+    @Field("host_id")
+    private Long host;
+
+    @Field("schedule_status")
+    private Short scheduleStatus;
+
     @Field("status")
     private Short status;
 
@@ -7,6 +7,9 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -17,7 +20,16 @@ import lombok.AllArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="schedules")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedules")
+@Table(name="schedules", indexes = {
+        @Index(name = "idx_schedules_search", columnList = "status, start_datetime, end_datetime, price_per_hour"),
+        @Index(name = "idx_schedules_spot", columnList = "spot_id, status"),
+        @Index(name = "idx_schedules_rating", columnList = "status, rating_average"),
+        @Index(name = "idx_schedules_area", columnList = "status, spot_area"),
+        @Index(name = "idx_schedules_spot_size", columnList = "status, spot_type, spot_width, spot_length")
+})
 public class Schedule implements Serializable {
 
     @Serial
@@ -57,6 +69,21 @@ public class Schedule implements Serializable {
     @Column(name = "end_datetime", nullable=false)
     private LocalDateTime endDateTime;
 
+    @Column(name = "spot_type", columnDefinition = "NUMERIC(1,0)")
+    private Short spotType;
+
+    @Column(name = "spot_width", precision = 9, scale = 2)
+    private BigDecimal spotWidth;
+
+    @Column(name = "spot_length", precision = 9, scale = 2)
+    private BigDecimal spotLength;
+
+    @Column(name = "spot_area", precision = 11, scale = 2)
+    private BigDecimal spotArea;
+
+    @Column(name = "rating_average", precision = 3, scale = 2)
+    private BigDecimal ratingAverage;
+
     @Column(name="created_at", nullable=false, updatable=false)
     private Instant createdAt;
 
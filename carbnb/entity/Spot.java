@@ -4,11 +4,17 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -34,6 +40,7 @@ public class Spot implements Serializable {
     @Field("status")
     private Short status;
 
+    @TextIndexed(weight = 3)
     @Field("name")
     private String name;
 
@@ -43,9 +50,11 @@ public class Spot implements Serializable {
     @Field("location")
     private String location;
 
+    @TextIndexed(weight = 2)
     @Field("address")
     private String address;
 
+    @TextIndexed
     @Field("description")
     private String description;
 
@@ -67,6 +76,17 @@ public class Spot implements Serializable {
     @Field("longitude")
     private Double longitude;
 
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    @Field("position")
+    private GeoJsonPoint position;
+
+    @Field("geocode_failed_at")
+    private Instant geocodeFailedAt;
+
+    @Indexed
+    @Field("search_terms")
+    private List<String> searchTerms;
+
     @Field("created_at")
     private Instant createdAt;
 
@@ -7,6 +7,8 @@ import java.time.Instant;
 import java.util.List;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -17,6 +19,8 @@ import lombok.AllArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name="users")
 public class User implements Serializable {
 
@@ -57,6 +61,10 @@ public class User implements Serializable {
     @Column(precision = 9, scale = 2)
     private BigDecimal balance;
 
+    @Version
+    @Column(nullable=false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     @Column(name="created_at", nullable=false, updatable=false)
     private Instant createdAt;
 
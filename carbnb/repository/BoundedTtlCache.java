@@ -0,0 +1,82 @@
+package com.project.carbnb.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+public class BoundedTtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final Map<K, Cached<V>> entries;
+    private long modifications;
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Cached<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Cached<V> entry = entries.get(key);
+
+        if (entry != null && System.currentTimeMillis() > entry.expiresAt) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry != null ? entry.value : null;
+    }
+
+    // read before loading and pass to put, so a load that raced an invalidation is not cached
+    public synchronized long version() {
+        return modifications;
+    }
+
+    public synchronized void put(K key, V value, long version) {
+        if (version == modifications) {
+            entries.put(key, new Cached<>(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public synchronized void update(K key, UnaryOperator<V> change) {
+        modifications++;
+        Cached<V> entry = entries.get(key);
+
+        if (entry != null) {
+            entries.put(key, new Cached<>(change.apply(entry.value), entry.expiresAt));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        modifications++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidate(Collection<K> keys) {
+        modifications++;
+        keys.forEach(entries::remove);
+    }
+
+    public synchronized void invalidateIf(Predicate<K> matches) {
+        modifications++;
+        entries.keySet().removeIf(matches);
+    }
+
+    private static class Cached<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Cached(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class CrossStoreJoin {
+
+    private UserRepository userRepository;
+    private FilePathCache filePathCache;
+    private SpotRepository spotRepository;
+    private VehicleRepository vehicleRepository;
+    private ReservationRepository reservationRepository;
+    private PaymentRepository paymentRepository;
+    private ReviewRepository reviewRepository;
+
+    public CrossStoreJoin(
+            UserRepository userRepository,
+            FilePathCache filePathCache,
+            SpotRepository spotRepository,
+            VehicleRepository vehicleRepository,
+            ReservationRepository reservationRepository,
+            PaymentRepository paymentRepository,
+            ReviewRepository reviewRepository
+    ) {
+        this.userRepository = userRepository;
+        this.filePathCache = filePathCache;
+        this.spotRepository = spotRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.reservationRepository = reservationRepository;
+        this.paymentRepository = paymentRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    public <T> IdentityMap<User> users(Collection<T> rows, Function<T, Long> key) {
+        List<Long> ids = keys(rows, key);
+        List<User> users = ids.isEmpty() ? new ArrayList<>() : userRepository.findAllById(ids);
+        return index("User", users, User::getId);
+    }
+
+    public <T> IdentityMap<FilePaths> files(Collection<T> rows, Function<T, Long> key) {
+        return filePathCache.find(keys(rows, key));
+    }
+
+    public IdentityMap<FilePaths> files(Collection<Long> ids) {
+        return filePathCache.find(ids);
+    }
+
+    public <T> IdentityMap<Spot> spots(Collection<T> rows, Function<T, Long> key) {
+        List<Long> ids = keys(rows, key);
+        List<Spot> spots = ids.isEmpty() ? new ArrayList<>() : spotRepository.findBySpotIdIn(ids);
+        return index("Spot", spots, Spot::getSpotId);
+    }
+
+    public <T> IdentityMap<Vehicle> vehicles(Collection<T> rows, Function<T, Long> key) {
+        List<Long> ids = keys(rows, key);
+        List<Vehicle> vehicles = ids.isEmpty() ? new ArrayList<>() : vehicleRepository.findByVehicleIdIn(ids);
+        return index("Vehicle", vehicles, Vehicle::getVehicleId);
+    }
+
+    public <T> Map<Long, List<Reservation>> reservationsBySchedule(Collection<T> rows, Function<T, Long> key, List<Short> statuses) {
+        List<Long> ids = keys(rows, key);
+
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Reservation> reservations = reservationRepository.findByScheduleIdInAndStatusIn(ids, statuses, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return reservations.stream().collect(Collectors.groupingBy(reservation -> reservation.getSchedule().getId()));
+    }
+
+    public <T> IdentityMap<Payment> paymentsByReservation(Collection<T> rows, Function<T, Long> key) {
+        List<Long> ids = keys(rows, key);
+        List<Payment> payments = ids.isEmpty() ? new ArrayList<>() : paymentRepository.findByReservationIdIn(ids);
+        return index("Payment", payments, payment -> payment.getReservation().getId());
+    }
+
+    public <T> Map<Long, List<Review>> reviewsByReservation(Collection<T> rows, Function<T, Long> key, List<Short> statuses) {
+        List<Long> ids = keys(rows, key);
+
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Review> reviews = reviewRepository.findByReservationInAndStatusIn(ids, statuses, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return reviews.stream().collect(Collectors.groupingBy(Review::getReservation));
+    }
+
+    private static <T> List<Long> keys(Collection<T> rows, Function<T, Long> key) {
+        return rows.stream().map(key).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    }
+
+    private static <V> IdentityMap<V> index(String name, List<V> values, Function<V, Long> id) {
+        Map<Long, V> map = new HashMap<>();
+
+        for (V value : values) {
+            map.putIfAbsent(id.apply(value), value);
+        }
+
+        return new IdentityMap<>(name, map);
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.carbnb.repository;
+
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Component
+public class FilePathCache {
+
+    private static final int MAX_SIZE = 50000;
+    private static final int BATCH_SIZE = 500;
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private FileRepository fileRepository;
+    private BoundedTtlCache<Long, FilePaths> entries = new BoundedTtlCache<>(MAX_SIZE, MAX_AGE);
+
+    public FilePathCache(FileRepository fileRepository) {
+        this.fileRepository = fileRepository;
+    }
+
+    public IdentityMap<FilePaths> find(Collection<Long> ids) {
+        Map<Long, FilePaths> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long id : ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList())) {
+            FilePaths paths = entries.get(id);
+
+            if (paths != null) {
+                found.put(id, paths);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size()));
+            long version = entries.version();
+            List<FilePaths> loaded = fileRepository.findPathsByIdIn(batch);
+
+            for (FilePaths paths : loaded) {
+                found.put(paths.getId(), paths);
+                entries.put(paths.getId(), paths, version);
+            }
+        }
+
+        return new IdentityMap<>("File", found);
+    }
+
+    public void invalidate(Long id) {
+        if (id != null) {
+            entries.invalidate(id);
+        }
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        entries.invalidate(ids);
+    }
+}
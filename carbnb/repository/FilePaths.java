@@ -0,0 +1,32 @@
+package com.project.carbnb.repository;
+
+public class FilePaths {
+
+    private final Long id;
+    private final String path;
+    private final String thumbnailPath;
+    private final String mediumPath;
+
+    public FilePaths(Long id, String path, String thumbnailPath, String mediumPath) {
+        this.id = id;
+        this.path = path;
+        this.thumbnailPath = thumbnailPath;
+        this.mediumPath = mediumPath;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public String getMediumPath() {
+        return mediumPath;
+    }
+}
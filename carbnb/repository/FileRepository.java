@@ -3,8 +3,35 @@ package com.project.carbnb.repository;
 import com.project.carbnb.entity.File;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<File, Long> {
     List<File> findByStatusIn(List<Short> statuses, Sort sort);
-}
\ No newline at end of file
+    Optional<File> findFirstByHash(String hash);
+
+    @Query("select new com.project.carbnb.repository.FilePaths(f.id, f.path, f.thumbnailPath, f.mediumPath) from File f where f.id in :ids")
+    List<FilePaths> findPathsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select f.id from File f where f.hash = :hash")
+    List<Long> findIdsByHash(@Param("hash") String hash);
+
+    @Modifying
+    @Transactional
+    @Query("update File f set f.thumbnailPath = :thumbnailPath, f.mediumPath = :mediumPath where f.hash = :hash")
+    int updateDerivatives(@Param("hash") String hash, @Param("thumbnailPath") String thumbnailPath, @Param("mediumPath") String mediumPath);
+
+    @Modifying
+    @Transactional
+    @Query("update File f set f.derivativeAttempts = :attempts where f.hash = :hash")
+    int updateDerivativeAttempts(@Param("hash") String hash, @Param("attempts") Integer attempts);
+
+    @Query("select f from File f where f.thumbnailPath is null and f.hash is not null and f.path like :prefix and (f.derivativeAttempts is null or f.derivativeAttempts < :maxAttempts) order by f.id")
+    List<File> findDerivativeRetries(@Param("prefix") String prefix, @Param("maxAttempts") Integer maxAttempts, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Geocode;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface GeocodeRepository extends MongoRepository<Geocode, String> {
+}
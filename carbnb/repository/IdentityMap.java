@@ -0,0 +1,38 @@
+package com.project.carbnb.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+public class IdentityMap<V> {
+
+    private final String name;
+    private final Map<Long, V> values;
+
+    public IdentityMap(String name, Map<Long, V> values) {
+        this.name = name;
+        this.values = values;
+    }
+
+    public V get(Long id) {
+        return id == null ? null : values.get(id);
+    }
+
+    public V require(Long id) {
+        V value = get(id);
+
+        if (value == null) {
+            throw new RuntimeException(name + " not found");
+        }
+
+        return value;
+    }
+
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
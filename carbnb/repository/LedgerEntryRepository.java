@@ -0,0 +1,8 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+    boolean existsByTypeAndReferenceId(Short type, Long referenceId);
+}
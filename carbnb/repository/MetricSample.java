@@ -0,0 +1,33 @@
+package com.project.carbnb.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class MetricSample {
+
+    private final Long id;
+    private final Instant createdAt;
+    private final BigDecimal amount;
+
+    public MetricSample(Long id, Instant createdAt) {
+        this(id, createdAt, null);
+    }
+
+    public MetricSample(Long id, Instant createdAt, BigDecimal amount) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.amount = amount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
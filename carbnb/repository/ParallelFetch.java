@@ -0,0 +1,145 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.config.VirtualThreads;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class ParallelFetch {
+
+    public enum Store { SQL, MONGO }
+
+    private Semaphore sqlPermits;
+    private Semaphore mongoPermits;
+    private ExecutorService workers;
+
+    public ParallelFetch(
+            @Value("${carbnb.fetch.sql-permits:4}") int sqlPermits,
+            @Value("${carbnb.fetch.mongo-permits:8}") int mongoPermits,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.sqlPermits = new Semaphore(sqlPermits);
+        this.mongoPermits = new Semaphore(mongoPermits);
+        this.workers = virtualThreads ? VirtualThreads.perTaskExecutor("cross-store-fetch").orElseGet(() -> platformWorkers(sqlPermits, mongoPermits)) : platformWorkers(sqlPermits, mongoPermits);
+    }
+
+    public Scope open() {
+        return new Scope(!TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static ExecutorService platformWorkers(int sqlPermits, int mongoPermits) {
+        return new ThreadPoolExecutor(0, Math.max(1, sqlPermits + mongoPermits), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "cross-store-fetch");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public class Scope implements AutoCloseable {
+
+        private final boolean parallel;
+        private final List<CompletableFuture<?>> forks = new ArrayList<>();
+
+        private Scope(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public <T> Fork<T> fork(Store store, Supplier<T> fetch) {
+            Semaphore permits = store == Store.SQL ? sqlPermits : mongoPermits;
+
+            if (!parallel || !permits.tryAcquire()) {
+                return new Fork<>(CompletableFuture.completedFuture(fetch.get()));
+            }
+
+            RequestAttributes request = RequestContextHolder.getRequestAttributes();
+            CompletableFuture<T> future = new CompletableFuture<>();
+
+            try {
+                workers.execute(() -> {
+                    RequestContextHolder.setRequestAttributes(request);
+
+                    try {
+                        future.complete(fetch.get());
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                return new Fork<>(CompletableFuture.completedFuture(fetch.get()));
+            }
+
+            forks.add(future);
+            return new Fork<>(future);
+        }
+
+        public void join() {
+            try {
+                CompletableFuture.allOf(forks.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException | CancellationException e) {
+                close();
+                throw unwrap(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            forks.forEach(fork -> fork.cancel(true));
+        }
+    }
+
+    public static class Fork<T> {
+
+        private final CompletableFuture<T> future;
+
+        private Fork(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        public T get() {
+            try {
+                return future.join();
+            } catch (CompletionException | CancellationException e) {
+                throw unwrap(e);
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new RuntimeException(cause);
+    }
+}
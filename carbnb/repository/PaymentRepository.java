@@ -1,14 +1,45 @@
 package com.project.carbnb.repository;
 
 import com.project.carbnb.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByStatusIn(List<Short> statuses, Sort sort);
     List<Payment> findByUserIdAndStatusIn(Long id, List<Short> statuses, Sort sort);
     Optional<Payment> findByIdAndUserIdAndStatusIn(Long id, Long userId, List<Short> statuses);
     Optional<Payment> findByReservationId(Long id);
+    List<Payment> findByReservationIdIn(List<Long> ids);
+
+    long countByUserIdAndStatusIn(Long id, List<Short> statuses);
+
+    @Query("select new com.project.carbnb.repository.MetricSample(p.id, p.createdAt, p.amount) from Payment p where p.id > :id and p.status in :statuses order by p.id")
+    List<MetricSample> findMetricSamples(@Param("statuses") List<Short> statuses, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.MetricSample(p.id, p.createdAt, p.amount) from Payment p where p.reservation.schedule.user.id = :hostId and p.status in :statuses and p.createdAt >= :from and p.createdAt < :to")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<MetricSample> streamHostEarnings(@Param("hostId") Long hostId, @Param("statuses") List<Short> statuses, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select coalesce(sum(p.amount), 0) from Payment p join p.reservation r where r.schedule.user.id = :hostId and r.schedule.status = :scheduleStatus and r.status in :statuses and r.createdAt >= :from")
+    BigDecimal sumHostReservationAmounts(@Param("hostId") Long hostId, @Param("scheduleStatus") Short scheduleStatus, @Param("statuses") List<Short> statuses, @Param("from") Instant from);
+
+    @Query("select p.reservation.schedule.user.id from Payment p where p.id = :id")
+    Optional<Long> findHostIdById(@Param("id") Long id);
+
+    @Query("select new com.project.carbnb.repository.PaymentRow(p.id, p.status, p.amount, p.method, p.createdAt, p.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId, r.id, r.status, r.startDateTime, r.endDateTime, r.schedule.id) from Payment p join p.user u join p.reservation r where u.id = :userId and p.status in :statuses order by p.createdAt desc, p.id desc")
+    List<PaymentRow> findRowsByUserIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") List<Short> statuses, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.PaymentRow(p.id, p.status, p.amount, p.method, p.createdAt, p.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId, r.id, r.status, r.startDateTime, r.endDateTime, r.schedule.id) from Payment p join p.user u join p.reservation r where u.id = :userId and p.status in :statuses and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) order by p.createdAt desc, p.id desc")
+    List<PaymentRow> findRowPageByUserIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") List<Short> statuses, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,72 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Payment;
+import com.project.carbnb.entity.Reservation;
+import com.project.carbnb.entity.Schedule;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public class PaymentRow {
+
+    private final Long id;
+    private final Short status;
+    private final BigDecimal amount;
+    private final String method;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Long userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String phoneNumber;
+    private final Long imageId;
+    private final Long reservationId;
+    private final Short reservationStatus;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final Long scheduleId;
+
+    public PaymentRow(Long id, Short status, BigDecimal amount, String method, Instant createdAt, Instant updatedAt, Long userId, String username, String firstName, String lastName, String phoneNumber, Long imageId, Long reservationId, Short reservationStatus, LocalDateTime startDateTime, LocalDateTime endDateTime, Long scheduleId) {
+        this.id = id;
+        this.status = status;
+        this.amount = amount;
+        this.method = method;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.userId = userId;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.imageId = imageId;
+        this.reservationId = reservationId;
+        this.reservationStatus = reservationStatus;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.scheduleId = scheduleId;
+    }
+
+    public Payment toPayment() {
+        Schedule schedule = new Schedule();
+        schedule.setId(scheduleId);
+
+        Reservation reservation = new Reservation();
+        reservation.setId(reservationId);
+        reservation.setStatus(reservationStatus);
+        reservation.setStartDateTime(startDateTime);
+        reservation.setEndDateTime(endDateTime);
+        reservation.setSchedule(schedule);
+
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setStatus(status);
+        payment.setAmount(amount);
+        payment.setMethod(method);
+        payment.setCreatedAt(createdAt);
+        payment.setUpdatedAt(updatedAt);
+        payment.setUser(UserSummary.user(userId, username, firstName, lastName, phoneNumber, imageId));
+        payment.setReservation(reservation);
+        return payment;
+    }
+}
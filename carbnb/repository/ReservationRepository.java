@@ -1,16 +1,45 @@
 package com.project.carbnb.repository;
 
 import com.project.carbnb.entity.Reservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findByStatusIn(List<Short> statuses, Sort sort);
     List<Reservation> findByUserIdAndStatusIn(Long id, List<Short> statuses, Sort sort);
     List<Reservation> findByScheduleIdAndStatusIn(Long id, List<Short> statuses, Sort sort);
     List<Reservation> findByScheduleIdInAndStatusIn(List<Long> schedules, List<Short> statuses, Sort sort);
+    boolean existsByScheduleIdAndStatusInAndStartDateTimeLessThanAndEndDateTimeGreaterThan(Long scheduleId, List<Short> statuses, LocalDateTime endDateTime, LocalDateTime startDateTime);
     Optional<Reservation> findByIdAndUserIdAndStatusIn(Long id, Long userId, List<Short> statuses);
     Optional<Reservation> findByIdAndScheduleIdInAndStatusIn(Long id, List<Long> schedules, List<Short> statuses);
-}
\ No newline at end of file
+
+    long countByScheduleUserIdAndScheduleStatusAndStatusIn(Long userId, Short scheduleStatus, List<Short> statuses);
+    long countByScheduleUserIdAndScheduleStatusAndStatusInAndCreatedAtGreaterThanEqual(Long userId, Short scheduleStatus, List<Short> statuses, Instant createdAt);
+
+    @Query("select r.id from Reservation r where r.schedule.id = :scheduleId and r.id > :id order by r.id")
+    List<Long> findIdsByScheduleId(@Param("scheduleId") Long scheduleId, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.MetricSample(r.id, r.createdAt) from Reservation r where r.id > :id order by r.id")
+    List<MetricSample> findMetricSamples(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.TimeSlice(r.startDateTime, r.endDateTime) from Reservation r where r.schedule.user.id = :hostId and r.status in :statuses and r.startDateTime < :to and r.endDateTime > :from")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TimeSlice> streamHostBookings(@Param("hostId") Long hostId, @Param("statuses") List<Short> statuses, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.project.carbnb.repository.ReservationRow(r.id, r.vehicle, r.status, r.startDateTime, r.endDateTime, r.createdAt, r.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId, s.id, s.spot, s.pricePerHour, s.user.id) from Reservation r join r.user u join r.schedule s where s.user.id = :userId and s.status = :scheduleStatus and r.status in :statuses order by r.createdAt desc, r.id desc")
+    List<ReservationRow> findRowsByHostAndStatusIn(@Param("userId") Long userId, @Param("scheduleStatus") Short scheduleStatus, @Param("statuses") List<Short> statuses, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.ReservationRow(r.id, r.vehicle, r.status, r.startDateTime, r.endDateTime, r.createdAt, r.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId, s.id, s.spot, s.pricePerHour, s.user.id) from Reservation r join r.user u join r.schedule s where s.user.id = :userId and s.status = :scheduleStatus and r.status in :statuses and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) order by r.createdAt desc, r.id desc")
+    List<ReservationRow> findRowPageByHostAndStatusIn(@Param("userId") Long userId, @Param("scheduleStatus") Short scheduleStatus, @Param("statuses") List<Short> statuses, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+}
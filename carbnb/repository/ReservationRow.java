@@ -0,0 +1,68 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Reservation;
+import com.project.carbnb.entity.Schedule;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public class ReservationRow {
+
+    private final Long id;
+    private final Long vehicle;
+    private final Short status;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Long userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String phoneNumber;
+    private final Long imageId;
+    private final Long scheduleId;
+    private final Long spot;
+    private final BigDecimal pricePerHour;
+    private final Long hostId;
+
+    public ReservationRow(Long id, Long vehicle, Short status, LocalDateTime startDateTime, LocalDateTime endDateTime, Instant createdAt, Instant updatedAt, Long userId, String username, String firstName, String lastName, String phoneNumber, Long imageId, Long scheduleId, Long spot, BigDecimal pricePerHour, Long hostId) {
+        this.id = id;
+        this.vehicle = vehicle;
+        this.status = status;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.userId = userId;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.imageId = imageId;
+        this.scheduleId = scheduleId;
+        this.spot = spot;
+        this.pricePerHour = pricePerHour;
+        this.hostId = hostId;
+    }
+
+    public Reservation toReservation() {
+        Schedule schedule = new Schedule();
+        schedule.setId(scheduleId);
+        schedule.setSpot(spot);
+        schedule.setPricePerHour(pricePerHour);
+        schedule.setUser(UserSummary.user(hostId, null, null, null, null, null));
+
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setVehicle(vehicle);
+        reservation.setStatus(status);
+        reservation.setStartDateTime(startDateTime);
+        reservation.setEndDateTime(endDateTime);
+        reservation.setCreatedAt(createdAt);
+        reservation.setUpdatedAt(updatedAt);
+        reservation.setUser(UserSummary.user(userId, username, firstName, lastName, phoneNumber, imageId));
+        reservation.setSchedule(schedule);
+        return reservation;
+    }
+}
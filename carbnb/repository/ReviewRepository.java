@@ -3,6 +3,9 @@ package com.project.carbnb.repository;
 import com.project.carbnb.entity.Review;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,13 @@ public interface ReviewRepository extends MongoRepository<Review, Long> {
     Optional<Review> findByReviewId(Long id);
     Optional<Review> findByIdAndReservationInAndStatusIn(Long id, List<Long> reservations, List<Short> statuses);
     Optional<Review> findByReservationAndStatusIn(Long id, List<Short> statuses);
-}
\ No newline at end of file
+
+    List<Review> findByHostAndScheduleStatusAndStatusIn(Long host, Short scheduleStatus, List<Short> statuses, Pageable pageable);
+    long countByHostAndScheduleStatusAndStatusIn(Long host, Short scheduleStatus, List<Short> statuses);
+
+    @Query(value = "{ 'host_id': ?0, 'schedule_status': ?1, 'status': { $in: ?2 }, $or: [ { 'created_at': { $lt: ?3 } }, { 'created_at': ?3, 'review_id': { $lt: ?4 } } ] }", sort = "{ 'created_at': -1, 'review_id': -1 }")
+    List<Review> findPageByHostAndScheduleStatusAndStatusIn(Long host, Short scheduleStatus, List<Short> statuses, Instant createdAt, Long id, Pageable pageable);
+
+    @Query(value = "{ $or: [ { 'host_id': null }, { 'schedule_status': null } ], 'review_id': { $gt: ?0 } }", sort = "{ 'review_id': 1 }")
+    List<Review> findWithoutSchedule(Long id, Pageable pageable);
+}
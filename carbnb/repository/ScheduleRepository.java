@@ -1,14 +1,48 @@
 package com.project.carbnb.repository;
 
 import com.project.carbnb.entity.Schedule;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleSearchRepository {
     List<Schedule> findByStatusIn(List<Short> statuses, Sort sort);
     List<Schedule> findByUserIdAndStatusIn(Long id, List<Short> statuses, Sort sort);
     List<Schedule> findBySpotAndStatusIn(Long id, List<Short> statuses, Sort sort);
     Optional<Schedule> findByIdAndUserIdAndStatusIn(Long id, Long userId, List<Short> statuses);
-}
\ No newline at end of file
+    Optional<Schedule> findByIdAndStatusIn(Long id, List<Short> statuses);
+    List<Schedule> findBySpot(Long spot);
+
+    @Query("select s from Schedule s where (s.spotArea is null or s.spotType is null) and s.id > :id order by s.id")
+    List<Schedule> findWithoutSpotFields(@Param("id") Long id, Pageable pageable);
+
+    @Query("select s.id from Schedule s where s.ratingAverage is not null")
+    List<Long> findRatedIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Schedule> findLockedById(Long id);
+
+    long countByUserIdAndStatusIn(Long id, List<Short> statuses);
+
+    @Query("select new com.project.carbnb.repository.TimeSlice(s.startDateTime, s.endDateTime) from Schedule s where s.user.id = :hostId and s.status in :statuses and s.startDateTime < :to and s.endDateTime > :from")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TimeSlice> streamHostWindows(@Param("hostId") Long hostId, @Param("statuses") List<Short> statuses, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.project.carbnb.repository.ScheduleRow(s.id, s.spot, s.status, s.pricePerHour, s.minimumHour, s.charger, s.chargerPrice, s.startDateTime, s.endDateTime, s.createdAt, s.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId) from Schedule s join s.user u where u.id = :userId and s.status in :statuses order by s.createdAt desc, s.id desc")
+    List<ScheduleRow> findRowsByUserIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") List<Short> statuses, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.ScheduleRow(s.id, s.spot, s.status, s.pricePerHour, s.minimumHour, s.charger, s.chargerPrice, s.startDateTime, s.endDateTime, s.createdAt, s.updatedAt, u.id, u.username, u.firstName, u.lastName, u.phoneNumber, u.imageId) from Schedule s join s.user u where u.id = :userId and s.status in :statuses and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id)) order by s.createdAt desc, s.id desc")
+    List<ScheduleRow> findRowPageByUserIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") List<Short> statuses, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+}
@@ -0,0 +1,64 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Schedule;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public class ScheduleRow {
+
+    private final Long id;
+    private final Long spot;
+    private final Short status;
+    private final BigDecimal pricePerHour;
+    private final Integer minimumHour;
+    private final Short charger;
+    private final BigDecimal chargerPrice;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final Long userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String phoneNumber;
+    private final Long imageId;
+
+    public ScheduleRow(Long id, Long spot, Short status, BigDecimal pricePerHour, Integer minimumHour, Short charger, BigDecimal chargerPrice, LocalDateTime startDateTime, LocalDateTime endDateTime, Instant createdAt, Instant updatedAt, Long userId, String username, String firstName, String lastName, String phoneNumber, Long imageId) {
+        this.id = id;
+        this.spot = spot;
+        this.status = status;
+        this.pricePerHour = pricePerHour;
+        this.minimumHour = minimumHour;
+        this.charger = charger;
+        this.chargerPrice = chargerPrice;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.userId = userId;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.imageId = imageId;
+    }
+
+    public Schedule toSchedule() {
+        Schedule schedule = new Schedule();
+        schedule.setId(id);
+        schedule.setSpot(spot);
+        schedule.setStatus(status);
+        schedule.setPricePerHour(pricePerHour);
+        schedule.setMinimumHour(minimumHour);
+        schedule.setCharger(charger);
+        schedule.setChargerPrice(chargerPrice);
+        schedule.setStartDateTime(startDateTime);
+        schedule.setEndDateTime(endDateTime);
+        schedule.setCreatedAt(createdAt);
+        schedule.setUpdatedAt(updatedAt);
+        schedule.setUser(UserSummary.user(userId, username, firstName, lastName, phoneNumber, imageId));
+        return schedule;
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.carbnb.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ScheduleSearch {
+
+    private final List<Short> statuses;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final Boolean charger;
+    private final Short spotType;
+    private final BigDecimal minWidth;
+    private final BigDecimal maxWidth;
+    private final BigDecimal minLength;
+    private final BigDecimal maxLength;
+    private final String text;
+    private final List<Long> textSpotIds;
+
+    public ScheduleSearch(List<Short> statuses, LocalDateTime startDateTime, LocalDateTime endDateTime, BigDecimal minPrice, BigDecimal maxPrice, Boolean charger,
+                          Short spotType, BigDecimal minWidth, BigDecimal maxWidth, BigDecimal minLength, BigDecimal maxLength, String text, List<Long> textSpotIds) {
+        this.statuses = statuses;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.charger = charger;
+        this.spotType = spotType;
+        this.minWidth = minWidth;
+        this.maxWidth = maxWidth;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.text = text;
+        this.textSpotIds = textSpotIds;
+    }
+
+    public List<Short> getStatuses() {
+        return statuses;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public Boolean getCharger() {
+        return charger;
+    }
+
+    public Short getSpotType() {
+        return spotType;
+    }
+
+    public BigDecimal getMinWidth() {
+        return minWidth;
+    }
+
+    public BigDecimal getMaxWidth() {
+        return maxWidth;
+    }
+
+    public BigDecimal getMinLength() {
+        return minLength;
+    }
+
+    public BigDecimal getMaxLength() {
+        return maxLength;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<Long> getTextSpotIds() {
+        return textSpotIds;
+    }
+}
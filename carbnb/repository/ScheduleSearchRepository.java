@@ -0,0 +1,9 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Schedule;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+
+public interface ScheduleSearchRepository {
+    List<Schedule> search(ScheduleSearch search, Sort sort, long offset, int limit);
+}
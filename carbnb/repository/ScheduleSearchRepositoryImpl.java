@@ -0,0 +1,103 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScheduleSearchRepositoryImpl implements ScheduleSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Schedule> search(ScheduleSearch search, Sort sort, long offset, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Schedule> query = builder.createQuery(Schedule.class);
+        Root<Schedule> schedule = query.from(Schedule.class);
+        query.select(schedule).where(predicates(builder, schedule, search)).orderBy(orders(builder, schedule, sort));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder builder, Root<Schedule> schedule, ScheduleSearch search) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(schedule.get("status").in(search.getStatuses()));
+
+        if (search.getStartDateTime() != null) {
+            predicates.add(builder.lessThanOrEqualTo(schedule.<LocalDateTime>get("startDateTime"), search.getStartDateTime()));
+        }
+
+        if (search.getEndDateTime() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(schedule.<LocalDateTime>get("endDateTime"), search.getEndDateTime()));
+        }
+
+        if (search.getMinPrice() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(schedule.<BigDecimal>get("pricePerHour"), search.getMinPrice()));
+        }
+
+        if (search.getMaxPrice() != null) {
+            predicates.add(builder.lessThanOrEqualTo(schedule.<BigDecimal>get("pricePerHour"), search.getMaxPrice()));
+        }
+
+        if (search.getCharger() != null) {
+            Predicate hasCharger = builder.and(builder.isNotNull(schedule.get("charger")), builder.notEqual(schedule.get("charger"), (short) 0));
+            predicates.add(search.getCharger() ? hasCharger : builder.not(hasCharger));
+        }
+
+        if (search.getSpotType() != null) {
+            predicates.add(builder.equal(schedule.get("spotType"), search.getSpotType()));
+        }
+
+        range(builder, schedule, predicates, "spotWidth", search.getMinWidth(), search.getMaxWidth());
+        range(builder, schedule, predicates, "spotLength", search.getMinLength(), search.getMaxLength());
+
+        if (search.getText() != null) {
+            Predicate description = builder.like(builder.lower(schedule.<String>get("description")), search.getText(), '\\');
+            predicates.add(search.getTextSpotIds() == null || search.getTextSpotIds().isEmpty()
+                    ? description
+                    : builder.or(schedule.get("spot").in(search.getTextSpotIds()), description));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static void range(CriteriaBuilder builder, Root<Schedule> schedule, List<Predicate> predicates, String field, BigDecimal min, BigDecimal max) {
+        if (min != null) {
+            predicates.add(builder.greaterThanOrEqualTo(schedule.<BigDecimal>get(field), min));
+        }
+
+        if (max != null) {
+            predicates.add(builder.lessThanOrEqualTo(schedule.<BigDecimal>get(field), max));
+        }
+    }
+
+    private static List<Order> orders(CriteriaBuilder builder, Root<Schedule> schedule, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            if (order.getNullHandling() == Sort.NullHandling.NULLS_LAST) {
+                orders.add(builder.asc(builder.selectCase().when(builder.isNull(schedule.get(order.getProperty())), 1).otherwise(0)));
+            } else if (order.getNullHandling() == Sort.NullHandling.NULLS_FIRST) {
+                orders.add(builder.asc(builder.selectCase().when(builder.isNull(schedule.get(order.getProperty())), 0).otherwise(1)));
+            }
+
+            orders.add(order.isAscending() ? builder.asc(schedule.get(order.getProperty())) : builder.desc(schedule.get(order.getProperty())));
+        }
+
+        orders.add(builder.desc(schedule.get("id")));
+        return orders;
+    }
+}
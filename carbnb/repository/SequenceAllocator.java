@@ -0,0 +1,88 @@
+package com.project.carbnb.repository;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class SequenceAllocator {
+
+    private static final String COLLECTION = "sequences";
+    private static final long BLOCK_SIZE = 50;
+
+    private MongoTemplate mongoTemplate;
+    private Map<String, Block> blocks = new ConcurrentHashMap<>();
+    private Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    public SequenceAllocator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public long next(Class<?> type, String field) {
+        String name = mongoTemplate.getCollectionName(type);
+
+        while (true) {
+            Block block = blocks.get(name);
+
+            if (block != null) {
+                long id = block.next.getAndIncrement();
+
+                if (id <= block.limit) {
+                    return id;
+                }
+            }
+
+            synchronized (locks.computeIfAbsent(name, key -> new Object())) {
+                if (blocks.get(name) == block) {
+                    if (block == null) {
+                        seed(name, field);
+                    }
+
+                    blocks.put(name, allocate(name));
+                }
+            }
+        }
+    }
+
+    private void seed(String name, String field) {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, field)).limit(1);
+        query.fields().include(field);
+
+        Document last = mongoTemplate.findOne(query, Document.class, name);
+        long max = last != null && last.get(field) instanceof Number ? ((Number) last.get(field)).longValue() : 0;
+
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(name)), new Update().max("value", max), COLLECTION);
+    }
+
+    private Block allocate(String name) {
+        Document sequence = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(name)),
+                new Update().inc("value", BLOCK_SIZE),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Document.class,
+                COLLECTION
+        );
+
+        long limit = ((Number) sequence.get("value")).longValue();
+        return new Block(limit - BLOCK_SIZE + 1, limit);
+    }
+
+    private static class Block {
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(long first, long limit) {
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
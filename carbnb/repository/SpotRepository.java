@@ -1,8 +1,15 @@
 package com.project.carbnb.repository;
 
 import com.project.carbnb.entity.Spot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +17,14 @@ public interface SpotRepository extends MongoRepository<Spot, Long> {
     List<Spot> findByStatusIn(List<Short> statuses, Sort sort);
     List<Spot> findByUserAndStatusIn(Long id, List<Short> statuses, Sort sort);
     List<Spot> findBySpotIdInAndStatusIn(List<Long> bookmarks, List<Short> statuses);
+    List<Spot> findBySpotIdIn(List<Long> ids);
+    GeoResults<Spot> findByPositionNearAndStatusIn(Point point, Range<Distance> distance, List<Short> statuses, Pageable pageable);
     Optional<Spot> findBySpotId(Long id);
     Optional<Spot> findBySpotIdAndUserAndStatusIn(Long id, Long userId, List<Short> statuses);
-}
\ No newline at end of file
+
+    List<Spot> findByUserAndStatusIn(Long id, List<Short> statuses, Pageable pageable);
+    long countByUserAndStatusIn(Long id, List<Short> statuses);
+
+    @Query(value = "{ 'user_id': ?0, 'status': { $in: ?1 }, $or: [ { 'created_at': { $lt: ?2 } }, { 'created_at': ?2, 'spot_id': { $lt: ?3 } } ] }", sort = "{ 'created_at': -1, 'spot_id': -1 }")
+    List<Spot> findPageByUserAndStatusIn(Long userId, List<Short> statuses, Instant createdAt, Long id, Pageable pageable);
+}
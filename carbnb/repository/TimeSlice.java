@@ -0,0 +1,22 @@
+package com.project.carbnb.repository;
+
+import java.time.LocalDateTime;
+
+public class TimeSlice {
+
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+
+    public TimeSlice(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.carbnb.repository;
+
+import java.math.BigDecimal;
+
+public interface UserBalanceRepository {
+    int applyBalance(Long id, BigDecimal amount);
+    void evict(Long id);
+}
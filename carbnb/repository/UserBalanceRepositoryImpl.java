@@ -0,0 +1,40 @@
+package com.project.carbnb.repository;
+
+import com.project.carbnb.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+
+public class UserBalanceRepositoryImpl implements UserBalanceRepository {
+
+    // plain JDBC so Hibernate does not treat it as a bulk update and drop the whole users region
+    private static final String APPLY_BALANCE = "update users set balance = coalesce(balance, 0) + ?, version = version + 1 where id = ? and coalesce(balance, 0) + ? >= 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyBalance(Long id, BigDecimal amount) {
+        entityManager.flush();
+
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(APPLY_BALANCE)) {
+                statement.setBigDecimal(1, amount);
+                statement.setLong(2, id);
+                statement.setBigDecimal(3, amount);
+                return statement.executeUpdate();
+            }
+        });
+
+        entityManager.clear();
+        evict(id);
+        return updated;
+    }
+
+    @Override
+    public void evict(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+    }
+}
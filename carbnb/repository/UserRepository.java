@@ -1,12 +1,29 @@
 package com.project.carbnb.repository;
 
 import com.project.carbnb.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
 import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBalanceRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     User findByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     User findByUsername(String username);
+
     List<User> findByStatusIn(List<Short> statuses, Sort sort);
+
+    @Query("select u.balance from User u where u.id = :id")
+    BigDecimal findBalanceById(@Param("id") Long id);
+
+    @Query("select new com.project.carbnb.repository.MetricSample(u.id, u.createdAt) from User u where u.id > :id order by u.id")
+    List<MetricSample> findMetricSamples(@Param("id") Long id, Pageable pageable);
 }
@@ -3,12 +3,22 @@ package com.project.carbnb.repository;
 import com.project.carbnb.entity.Vehicle;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface VehicleRepository extends MongoRepository<Vehicle, Long> {
     List<Vehicle> findByStatusIn(List<Short> statuses, Sort sort);
     List<Vehicle> findByUserAndStatusIn(Long id, List<Short> statuses, Sort sort);
+    List<Vehicle> findByVehicleIdIn(List<Long> ids);
     Optional<Vehicle> findByVehicleId(Long id);
     Optional<Vehicle> findByVehicleIdAndUserAndStatusIn(Long id, Long userId, List<Short> statuses);
-}
\ No newline at end of file
+
+    List<Vehicle> findByUserAndStatusIn(Long id, List<Short> statuses, Pageable pageable);
+    long countByUserAndStatusIn(Long id, List<Short> statuses);
+
+    @Query(value = "{ 'user_id': ?0, 'status': { $in: ?1 }, $or: [ { 'created_at': { $lt: ?2 } }, { 'created_at': ?2, 'vehicle_id': { $lt: ?3 } } ] }", sort = "{ 'created_at': -1, 'vehicle_id': -1 }")
+    List<Vehicle> findPageByUserAndStatusIn(Long userId, List<Short> statuses, Instant createdAt, Long id, Pageable pageable);
+}
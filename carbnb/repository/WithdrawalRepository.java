@@ -3,6 +3,11 @@ package com.project.carbnb.repository;
 import com.project.carbnb.entity.Withdrawal;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +15,16 @@ public interface WithdrawalRepository extends JpaRepository<Withdrawal, Long> {
     List<Withdrawal> findByStatusIn(List<Short> statuses, Sort sort);
     List<Withdrawal> findByUserIdAndStatusIn(Long id, List<Short> statuses, Sort sort);
     Optional<Withdrawal> findByIdAndUserIdAndStatusIn(Long id, Long userId, List<Short> statuses);
+
+    List<Withdrawal> findByUserIdAndStatusIn(Long id, List<Short> statuses, Pageable pageable);
+    long countByUserIdAndStatusIn(Long id, List<Short> statuses);
+
+    @Query("select coalesce(sum(w.amount), 0) from Withdrawal w where w.user.id = :userId and w.status = :status")
+    BigDecimal sumAmountByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Short status);
+
+    @Query("select w from Withdrawal w where w.user.id = :userId and w.status in :statuses and (w.createdAt < :createdAt or (w.createdAt = :createdAt and w.id < :id)) order by w.createdAt desc, w.id desc")
+    List<Withdrawal> findPageByUserIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") List<Short> statuses, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.project.carbnb.repository.MetricSample(w.id, w.createdAt, w.amount) from Withdrawal w where w.id > :id and w.status in :statuses order by w.id")
+    List<MetricSample> findMetricSamples(@Param("statuses") List<Short> statuses, @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,68 @@
+package com.project.carbnb.security;
+
+import com.project.carbnb.entity.User;
+import com.project.carbnb.repository.BoundedTtlCache;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class AuthenticatedUserCache {
+
+    private static final Duration MAX_AGE = Duration.ofSeconds(30);
+    private static final int MAX_SIZE = 10000;
+    private static final String REQUEST_ATTRIBUTE = AuthenticatedUserCache.class.getName() + ".";
+
+    private BoundedTtlCache<String, User> entries = new BoundedTtlCache<>(MAX_SIZE, MAX_AGE);
+
+    public User get(String email, Function<String, User> loader) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request != null) {
+            Object memo = request.getAttribute(REQUEST_ATTRIBUTE + email, RequestAttributes.SCOPE_REQUEST);
+
+            if (memo != null) {
+                return (User) memo;
+            }
+        }
+
+        User user = entries.get(email);
+
+        if (user == null) {
+            user = load(email, loader);
+        }
+
+        if (request != null && user != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE + email, user, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return user;
+    }
+
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+
+        entries.invalidate(email);
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE + email, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private User load(String email, Function<String, User> loader) {
+        long version = entries.version();
+        User user = loader.apply(email);
+
+        if (user != null) {
+            entries.put(email, user, version);
+        }
+
+        return user;
+    }
+}
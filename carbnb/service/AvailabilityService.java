@@ -0,0 +1,16 @@
+package com.project.carbnb.service;
+
+import com.project.carbnb.dto.AvailabilityDto;
+import com.project.carbnb.entity.Reservation;
+import com.project.carbnb.entity.Schedule;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AvailabilityService {
+    List<AvailabilityDto> findFreeSlots(Schedule schedule);
+    boolean isAvailable(Schedule schedule, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    boolean isFullyBooked(Schedule schedule);
+    void loadSchedules(List<Long> scheduleIds);
+    void addReservation(Reservation reservation);
+    void invalidate(Long scheduleId);
+}
@@ -0,0 +1,9 @@
+package com.project.carbnb.service;
+
+import java.math.BigDecimal;
+
+public interface BalanceLedgerService {
+    BigDecimal creditPayment(Long userId, Long paymentId, BigDecimal amount);
+    BigDecimal debitWithdrawal(Long userId, Long withdrawalId, BigDecimal amount);
+    BigDecimal adjust(Long userId, BigDecimal amount);
+}
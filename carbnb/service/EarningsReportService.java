@@ -0,0 +1,13 @@
+package com.project.carbnb.service;
+
+import com.project.carbnb.dto.EarningsReportDto;
+import java.time.LocalDate;
+
+public interface EarningsReportService {
+    String DAY = "day";
+    String WEEK = "week";
+    String MONTH = "month";
+
+    EarningsReportDto report(Long hostId, String granularity, LocalDate from, LocalDate to);
+    void invalidate(Long hostId);
+}
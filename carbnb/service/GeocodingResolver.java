@@ -0,0 +1,5 @@
+package com.project.carbnb.service;
+
+public interface GeocodingResolver {
+    double[] resolve(String location) throws Exception;
+}
@@ -0,0 +1,5 @@
+package com.project.carbnb.service;
+
+public interface GeocodingService {
+    void enqueue(Long spotId, String location);
+}
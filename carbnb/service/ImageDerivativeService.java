@@ -0,0 +1,7 @@
+package com.project.carbnb.service;
+
+import com.project.carbnb.entity.File;
+
+public interface ImageDerivativeService {
+    void enqueue(File file);
+}
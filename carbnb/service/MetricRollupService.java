@@ -0,0 +1,21 @@
+package com.project.carbnb.service;
+
+import com.project.carbnb.entity.MetricRollup;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public interface MetricRollupService {
+    String BOOKINGS = "bookings";
+    String REVENUE = "revenue";
+    String WITHDRAWALS = "withdrawals";
+    String USERS = "users";
+
+    String HOUR = "hour";
+    String DAY = "day";
+
+    void record(String metric, BigDecimal amount);
+    void adjust(String metric, Instant createdAt, long count, BigDecimal amount);
+    List<MetricRollup> range(String metric, String granularity, Instant from, Instant to);
+    void rebuild();
+}
@@ -1,12 +1,15 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.PaymentDto;
+import com.project.carbnb.dto.PageDto;
 import java.util.List;
 
 public interface PaymentService {
     List<PaymentDto> findAll();
     List<PaymentDto> findStatus();
     List<PaymentDto> findByUserId(Long id);
+    PageDto<PaymentDto> findByUserId(Long id, String cursor, int size);
+    long countByUserId(Long id);
     PaymentDto findById(Long id);
     PaymentDto findByIdAndUserId(Long id, Long userId);
     void storeData(PaymentDto paymentDto);
@@ -0,0 +1,16 @@
+package com.project.carbnb.service;
+
+import com.project.carbnb.entity.RatingAggregate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface RatingAggregateService {
+    String SCHEDULE = "schedule";
+    String SPOT = "spot";
+    String USER = "user";
+
+    Map<Long, RatingAggregate> find(String scope, Collection<Long> ids);
+    void reviewChanged(Long reservationId, Short previousRating, Short rating);
+    void refreshSchedule(Long scheduleId);
+    void rebuild();
+}
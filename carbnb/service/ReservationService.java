@@ -1,6 +1,8 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.ReservationDto;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.ReservationSummaryDto;
 import com.project.carbnb.dto.ScheduleDto;
 import com.project.carbnb.entity.Reservation;
 import java.util.List;
@@ -11,6 +13,9 @@ public interface ReservationService {
     List<ReservationDto> findByUserId(Long id);
     List<ReservationDto> findByScheduleId(Long id);
     List<ReservationDto> findBySchedule(List<ScheduleDto> scheduleDto);
+    PageDto<ReservationDto> findByHostId(Long id, String cursor, int size);
+    long countByHostId(Long id);
+    ReservationSummaryDto summarizeByHostId(Long id);
     ReservationDto findById(Long id);
     ReservationDto findByIdAndUserId(Long id, Long userId);
     ReservationDto findByIdAndSchedule(Long id, List<ScheduleDto> scheduleDto);
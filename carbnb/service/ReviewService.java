@@ -1,6 +1,7 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.ReviewDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ReservationDto;
 import java.util.List;
 
@@ -8,10 +9,13 @@ public interface ReviewService {
     List<ReviewDto> findAll();
     List<ReviewDto> findStatus();
     List<ReviewDto> findByReservation(List<ReservationDto> reservationDto);
+    PageDto<ReviewDto> findByHostId(Long id, String cursor, int size);
+    long countByHostId(Long id);
     ReviewDto findById(Long id);
     ReviewDto findByReservationId(Long id);
     ReviewDto findByIdAndReservation(Long id, List<ReservationDto> reservationDto);
     void storeData(ReviewDto reviewDto);
     void updateData(ReviewDto review, ReviewDto reviewDto);
     void removeData(ReviewDto review);
+    void scheduleChanged(Long scheduleId, Long host, Short scheduleStatus);
 }
@@ -1,6 +1,8 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.ScheduleDto;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.ScheduleSearchDto;
 import com.project.carbnb.entity.Schedule;
 
 import java.util.List;
@@ -8,11 +10,15 @@ import java.util.List;
 public interface ScheduleService {
     List<ScheduleDto> findAll();
     List<ScheduleDto> findStatus();
+    PageDto<ScheduleDto> search(ScheduleSearchDto search, String cursor, int size);
     List<ScheduleDto> findByUserId(Long id);
+    PageDto<ScheduleDto> findByUserId(Long id, String cursor, int size);
+    long countByUserId(Long id);
     List<ScheduleDto> findBySpotId(Long id);
     ScheduleDto findById(Long id);
     ScheduleDto findByIdAndUserId(Long id, Long userId);
     Schedule findByScheduleId(Long id);
+    Schedule findOpenById(Long id);
     void storeData(ScheduleDto scheduleDto);
     void updateData(ScheduleDto schedule, ScheduleDto scheduleDto);
     void removeData(ScheduleDto schedule);
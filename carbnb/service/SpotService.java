@@ -1,6 +1,7 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.BookmarkDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ReservationDto;
 import com.project.carbnb.dto.ScheduleDto;
 import com.project.carbnb.dto.SpotDto;
@@ -10,7 +11,12 @@ public interface SpotService {
     List<SpotDto> findAll();
     List<SpotDto> findStatus();
     List<SpotDto> findByUserId(Long id);
+    PageDto<SpotDto> findByUserId(Long id, String cursor, int size);
+    long countByUserId(Long id);
     List<SpotDto> findByBookmark(List<BookmarkDto> bookmarkDto);
+    PageDto<SpotDto> search(String text, String cursor, int size);
+    long countSearch(String text);
+    PageDto<SpotDto> findNearby(Double latitude, Double longitude, Double radius, int limit, String cursor);
     SpotDto findById(Long id);
     SpotDto findByIdAndUserId(Long id, Long userId);
     void storeData(SpotDto spotDto);
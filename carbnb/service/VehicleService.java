@@ -1,12 +1,15 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.VehicleDto;
+import com.project.carbnb.dto.PageDto;
 import java.util.List;
 
 public interface VehicleService {
     List<VehicleDto> findAll();
     List<VehicleDto> findStatus();
     List<VehicleDto> findByUserId(Long id);
+    PageDto<VehicleDto> findByUserId(Long id, String cursor, int size);
+    long countByUserId(Long id);
     VehicleDto findById(Long id);
     VehicleDto findByIdAndUserId(Long id, Long userId);
     void storeData(VehicleDto vehicleDto);
@@ -1,12 +1,17 @@
 package com.project.carbnb.service;
 
 import com.project.carbnb.dto.WithdrawalDto;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.WithdrawalSummaryDto;
 import java.util.List;
 
 public interface WithdrawalService {
     List<WithdrawalDto> findAll();
     List<WithdrawalDto> findStatus();
     List<WithdrawalDto> findByUserId(Long id);
+    PageDto<WithdrawalDto> findByUserId(Long id, String cursor, int size);
+    long countByUserId(Long id);
+    WithdrawalSummaryDto summarizeByUserId(Long id);
     WithdrawalDto findById(Long id);
     WithdrawalDto findByIdAndUserId(Long id, Long userId);
     void storeData(WithdrawalDto withdrawalDto);
@@ -0,0 +1,107 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.dto.AvailabilityDto;
+import com.project.carbnb.entity.Reservation;
+import com.project.carbnb.entity.Schedule;
+import com.project.carbnb.repository.BoundedTtlCache;
+import com.project.carbnb.repository.ReservationRepository;
+import com.project.carbnb.service.AvailabilityService;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final List<Short> BOOKED_STATUSES = Arrays.asList((short) 1, (short) 2);
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+    private static final int MAX_SIZE = 20000;
+
+    private ReservationRepository reservationRepository;
+    private BoundedTtlCache<Long, BookedIntervals> intervals = new BoundedTtlCache<>(MAX_SIZE, MAX_AGE);
+
+    public AvailabilityServiceImpl(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Override
+    public List<AvailabilityDto> findFreeSlots(Schedule schedule) {
+        return findIntervals(schedule.getId()).gaps(schedule.getStartDateTime(), schedule.getEndDateTime()).stream()
+                .map(gap -> new AvailabilityDto(gap[0], gap[1]))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isAvailable(Schedule schedule, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (startDateTime.isBefore(schedule.getStartDateTime()) || endDateTime.isAfter(schedule.getEndDateTime())) {
+            return false;
+        }
+
+        return findIntervals(schedule.getId()).isFree(startDateTime, endDateTime);
+    }
+
+    @Override
+    public boolean isFullyBooked(Schedule schedule) {
+        Duration minimum = Duration.ofHours(schedule.getMinimumHour() != null ? Math.max(1, schedule.getMinimumHour()) : 1);
+
+        return findIntervals(schedule.getId()).gaps(schedule.getStartDateTime(), schedule.getEndDateTime()).stream()
+                .noneMatch(gap -> Duration.between(gap[0], gap[1]).compareTo(minimum) >= 0);
+    }
+
+    @Override
+    public void loadSchedules(List<Long> scheduleIds) {
+        List<Long> missing = scheduleIds.stream().filter(id -> intervals.get(id) == null).distinct().collect(Collectors.toList());
+
+        if (!missing.isEmpty()) {
+            load(missing);
+        }
+    }
+
+    @Override
+    public void addReservation(Reservation reservation) {
+        if (!BOOKED_STATUSES.contains(reservation.getStatus())) {
+            return;
+        }
+
+        Long scheduleId = reservation.getSchedule().getId();
+        intervals.update(scheduleId, booked -> {
+            booked.add(reservation.getStartDateTime(), reservation.getEndDateTime());
+            return booked;
+        });
+    }
+
+    @Override
+    public void invalidate(Long scheduleId) {
+        intervals.invalidate(scheduleId);
+    }
+
+    private BookedIntervals findIntervals(Long scheduleId) {
+        BookedIntervals booked = intervals.get(scheduleId);
+
+        if (booked == null) {
+            booked = load(Arrays.asList(scheduleId)).get(scheduleId);
+        }
+
+        return booked;
+    }
+
+    private Map<Long, BookedIntervals> load(List<Long> scheduleIds) {
+        long version = intervals.version();
+        Map<Long, BookedIntervals> loaded = scheduleIds.stream().collect(Collectors.toMap(id -> id, id -> new BookedIntervals()));
+
+        List<Reservation> reservations = reservationRepository.findByScheduleIdInAndStatusIn(scheduleIds, BOOKED_STATUSES, Sort.by(Sort.Direction.ASC, "startDateTime"));
+
+        for (Reservation reservation : reservations) {
+            loaded.get(reservation.getSchedule().getId()).add(reservation.getStartDateTime(), reservation.getEndDateTime());
+        }
+
+        loaded.forEach((id, booked) -> intervals.put(id, booked, version));
+
+        return loaded;
+    }
+}
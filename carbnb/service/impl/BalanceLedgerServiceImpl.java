@@ -0,0 +1,98 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.entity.LedgerEntry;
+import com.project.carbnb.entity.User;
+import com.project.carbnb.repository.LedgerEntryRepository;
+import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.security.AuthenticatedUserCache;
+import com.project.carbnb.service.BalanceLedgerService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+
+@Service
+public class BalanceLedgerServiceImpl implements BalanceLedgerService {
+
+    private UserRepository userRepository;
+    private LedgerEntryRepository ledgerEntryRepository;
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    public BalanceLedgerServiceImpl(UserRepository userRepository, LedgerEntryRepository ledgerEntryRepository, AuthenticatedUserCache authenticatedUserCache) {
+        this.userRepository = userRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.authenticatedUserCache = authenticatedUserCache;
+    }
+
+    @Override
+    @Transactional
+    public BigDecimal creditPayment(Long userId, Long paymentId, BigDecimal amount) {
+        if (ledgerEntryRepository.existsByTypeAndReferenceId(LedgerEntry.PAYMENT_CREDIT, paymentId)) {
+            return userRepository.findBalanceById(userId);
+        }
+
+        return apply(userId, LedgerEntry.PAYMENT_CREDIT, paymentId, positive(amount));
+    }
+
+    @Override
+    @Transactional
+    public BigDecimal debitWithdrawal(Long userId, Long withdrawalId, BigDecimal amount) {
+        return apply(userId, LedgerEntry.WITHDRAWAL_DEBIT, withdrawalId, positive(amount).negate());
+    }
+
+    @Override
+    @Transactional
+    public BigDecimal adjust(Long userId, BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return userRepository.findBalanceById(userId);
+        }
+
+        return apply(userId, LedgerEntry.ADJUSTMENT, null, amount);
+    }
+
+    private BigDecimal apply(Long userId, Short type, Long referenceId, BigDecimal amount) {
+        String email = userRepository.findById(userId).map(User::getEmail).orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (userRepository.applyBalance(userId, amount) == 0) {
+            throw new RuntimeException("Insufficient balance");
+        }
+
+        BigDecimal balance = userRepository.findBalanceById(userId);
+
+        LedgerEntry entry = new LedgerEntry();
+        entry.setUser(userRepository.getReferenceById(userId));
+        entry.setType(type);
+        entry.setReferenceId(referenceId);
+        entry.setAmount(amount);
+        entry.setBalance(balance);
+        ledgerEntryRepository.saveAndFlush(entry);
+
+        invalidateAfterCommit(userId, email);
+        return balance;
+    }
+
+    private void invalidateAfterCommit(Long userId, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authenticatedUserCache.invalidate(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // a reader may have cached the pre-commit row between the update and the commit
+                userRepository.evict(userId);
+                authenticatedUserCache.invalidate(email);
+            }
+        });
+    }
+
+    private static BigDecimal positive(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new RuntimeException("Invalid amount");
+        }
+
+        return amount;
+    }
+}
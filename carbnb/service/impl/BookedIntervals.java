@@ -0,0 +1,75 @@
+package com.project.carbnb.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class BookedIntervals {
+
+    private final TreeMap<LocalDateTime, LocalDateTime> segments = new TreeMap<>();
+
+    synchronized void add(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+
+        Map.Entry<LocalDateTime, LocalDateTime> floor = segments.floorEntry(start);
+
+        if (floor != null && !floor.getValue().isBefore(start)) {
+            start = floor.getKey();
+            end = max(end, floor.getValue());
+        }
+
+        Iterator<Map.Entry<LocalDateTime, LocalDateTime>> iterator = segments.subMap(start, true, end, true).entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            end = max(end, iterator.next().getValue());
+            iterator.remove();
+        }
+
+        segments.put(start, end);
+    }
+
+    synchronized boolean isFree(LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, LocalDateTime> floor = segments.floorEntry(start);
+
+        if (floor != null && floor.getValue().isAfter(start)) {
+            return false;
+        }
+
+        LocalDateTime next = segments.higherKey(start);
+        return next == null || !next.isBefore(end);
+    }
+
+    synchronized List<LocalDateTime[]> gaps(LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime[]> gaps = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        Map.Entry<LocalDateTime, LocalDateTime> floor = segments.floorEntry(from);
+
+        if (floor != null && floor.getValue().isAfter(cursor)) {
+            cursor = floor.getValue();
+        }
+
+        for (Map.Entry<LocalDateTime, LocalDateTime> segment : segments.subMap(from, false, to, false).entrySet()) {
+            if (segment.getKey().isAfter(cursor)) {
+                gaps.add(new LocalDateTime[] { cursor, segment.getKey() });
+            }
+
+            cursor = max(cursor, segment.getValue());
+        }
+
+        if (cursor.isBefore(to)) {
+            gaps.add(new LocalDateTime[] { cursor, to });
+        }
+
+        return gaps;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -4,11 +4,13 @@ import com.project.carbnb.dto.BookmarkDto;
 import com.project.carbnb.entity.Bookmark;
 import com.project.carbnb.entity.Spot;
 import com.project.carbnb.repository.BookmarkRepository;
-import com.project.carbnb.repository.SpotRepository;
+import com.project.carbnb.repository.CrossStoreJoin;
+import com.project.carbnb.repository.IdentityMap;
 import com.project.carbnb.service.BookmarkService;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,23 +18,23 @@ import java.util.stream.Collectors;
 public class BookmarkServiceImpl implements BookmarkService {
 
     private BookmarkRepository bookmarkRepository;
-    private SpotRepository spotRepository;
+    private CrossStoreJoin crossStoreJoin;
 
-    public BookmarkServiceImpl(BookmarkRepository bookmarkRepository, SpotRepository spotRepository) {
+    public BookmarkServiceImpl(BookmarkRepository bookmarkRepository, CrossStoreJoin crossStoreJoin) {
         this.bookmarkRepository = bookmarkRepository;
-        this.spotRepository = spotRepository;
+        this.crossStoreJoin = crossStoreJoin;
     }
 
     @Override
     public List<BookmarkDto> findAll() {
         List<Bookmark> bookmarks = bookmarkRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return bookmarks.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(bookmarks);
     }
 
     @Override
     public List<BookmarkDto> findStatus() {
         List<Bookmark> bookmarks = bookmarkRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return bookmarks.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(bookmarks);
     }
 
     @Override
@@ -43,7 +45,7 @@ public class BookmarkServiceImpl implements BookmarkService {
     @Override
     public List<BookmarkDto> findByUserId(Long id) {
         List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndStatusIn(id, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return bookmarks.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(bookmarks);
     }
 
     @Override
@@ -69,6 +71,15 @@ public class BookmarkServiceImpl implements BookmarkService {
     }
 
     private BookmarkDto convertEntityToDto(Bookmark bookmark) {
+        return convertEntitiesToDto(Collections.singletonList(bookmark)).get(0);
+    }
+
+    private List<BookmarkDto> convertEntitiesToDto(List<Bookmark> bookmarks) {
+        IdentityMap<Spot> spots = crossStoreJoin.spots(bookmarks, Bookmark::getSpot);
+        return bookmarks.stream().map(bookmark -> convertEntityToDto(bookmark, spots)).collect(Collectors.toList());
+    }
+
+    private BookmarkDto convertEntityToDto(Bookmark bookmark, IdentityMap<Spot> spots) {
         BookmarkDto bookmarkDto = new BookmarkDto();
         bookmarkDto.setUser(bookmark.getUser());
         bookmarkDto.setSpot(bookmark.getSpot());
@@ -76,7 +87,7 @@ public class BookmarkServiceImpl implements BookmarkService {
         bookmarkDto.setCreatedAt(bookmark.getCreatedAt());
         bookmarkDto.setUpdatedAt(bookmark.getUpdatedAt());
 
-        Spot spot = spotRepository.findBySpotId(bookmark.getSpot()).orElseThrow(() -> new RuntimeException("Spot not found"));
+        Spot spot = spots.require(bookmark.getSpot());
         bookmarkDto.setSpotName(spot.getName());
 
         return bookmarkDto;
@@ -0,0 +1,198 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.dto.EarningsPeriodDto;
+import com.project.carbnb.dto.EarningsReportDto;
+import com.project.carbnb.repository.BoundedTtlCache;
+import com.project.carbnb.repository.MetricSample;
+import com.project.carbnb.repository.PaymentRepository;
+import com.project.carbnb.repository.ReservationRepository;
+import com.project.carbnb.repository.ScheduleRepository;
+import com.project.carbnb.repository.TimeSlice;
+import com.project.carbnb.service.EarningsReportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class EarningsReportServiceImpl implements EarningsReportService {
+
+    private static final List<Short> PAID_STATUSES = Arrays.asList((short) 1);
+    private static final List<Short> BOOKED_STATUSES = Arrays.asList((short) 1, (short) 2);
+    private static final List<Short> OPEN_STATUSES = Arrays.asList((short) 1, (short) 2);
+    private static final int MAX_PERIODS = 400;
+    private static final int MAX_SIZE = 10000;
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private PaymentRepository paymentRepository;
+    private ReservationRepository reservationRepository;
+    private ScheduleRepository scheduleRepository;
+    private BoundedTtlCache<String, EarningsReportDto> entries = new BoundedTtlCache<>(MAX_SIZE, TTL);
+
+    public EarningsReportServiceImpl(PaymentRepository paymentRepository, ReservationRepository reservationRepository, ScheduleRepository scheduleRepository) {
+        this.paymentRepository = paymentRepository;
+        this.reservationRepository = reservationRepository;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EarningsReportDto report(Long hostId, String granularity, LocalDate from, LocalDate to) {
+        if (!Arrays.asList(DAY, WEEK, MONTH).contains(granularity) || from == null || to == null || from.isAfter(to)) {
+            throw new RuntimeException("Invalid report range");
+        }
+
+        String key = hostId + ":" + granularity + ":" + from + ":" + to;
+        EarningsReportDto cached = entries.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = entries.version();
+        EarningsReportDto report = build(hostId, granularity, from, to);
+        entries.put(key, report, version);
+        return report;
+    }
+
+    @Override
+    public void invalidate(Long hostId) {
+        if (hostId == null) {
+            return;
+        }
+
+        String prefix = hostId + ":";
+        entries.invalidateIf(key -> key.startsWith(prefix));
+    }
+
+    private EarningsReportDto build(Long hostId, String granularity, LocalDate from, LocalDate to) {
+        List<LocalDateTime> boundaries = new ArrayList<>();
+        LocalDate start = periodStart(from, granularity);
+        LocalDate end = to.plusDays(1);
+
+        for (LocalDate period = start; period.isBefore(end); period = next(period, granularity)) {
+            boundaries.add(period.atStartOfDay());
+
+            if (boundaries.size() > MAX_PERIODS) {
+                throw new RuntimeException("Invalid report range");
+            }
+        }
+
+        boundaries.add(next(boundaries.get(boundaries.size() - 1).toLocalDate(), granularity).atStartOfDay());
+
+        int size = boundaries.size() - 1;
+        BigDecimal[] revenue = new BigDecimal[size];
+        long[] payments = new long[size];
+        long[] booked = new long[size];
+        long[] available = new long[size];
+        Arrays.fill(revenue, BigDecimal.ZERO);
+
+        LocalDateTime rangeStart = boundaries.get(0);
+        LocalDateTime rangeEnd = boundaries.get(size);
+        ZoneId zone = ZoneId.systemDefault();
+
+        try (Stream<MetricSample> samples = paymentRepository.streamHostEarnings(hostId, PAID_STATUSES, rangeStart.atZone(zone).toInstant(), rangeEnd.atZone(zone).toInstant())) {
+            samples.forEach(sample -> {
+                int index = indexOf(boundaries, LocalDateTime.ofInstant(sample.getCreatedAt(), zone));
+
+                if (index >= 0) {
+                    revenue[index] = revenue[index].add(sample.getAmount());
+                    payments[index]++;
+                }
+            });
+        }
+
+        try (Stream<TimeSlice> slices = reservationRepository.streamHostBookings(hostId, BOOKED_STATUSES, rangeStart, rangeEnd)) {
+            slices.forEach(slice -> spread(boundaries, slice, booked));
+        }
+
+        try (Stream<TimeSlice> slices = scheduleRepository.streamHostWindows(hostId, OPEN_STATUSES, rangeStart, rangeEnd)) {
+            slices.forEach(slice -> spread(boundaries, slice, available));
+        }
+
+        List<EarningsPeriodDto> periods = new ArrayList<>();
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        long totalPayments = 0;
+        long totalBooked = 0;
+        long totalAvailable = 0;
+
+        for (int index = 0; index < size; index++) {
+            periods.add(new EarningsPeriodDto(boundaries.get(index).toLocalDate(), revenue[index], payments[index],
+                    hours(booked[index]), hours(available[index]), occupancy(booked[index], available[index])));
+            totalRevenue = totalRevenue.add(revenue[index]);
+            totalPayments += payments[index];
+            totalBooked += booked[index];
+            totalAvailable += available[index];
+        }
+
+        return new EarningsReportDto(granularity, start, rangeEnd.toLocalDate().minusDays(1), totalRevenue, totalPayments,
+                hours(totalBooked), hours(totalAvailable), occupancy(totalBooked, totalAvailable), Collections.unmodifiableList(periods));
+    }
+
+    private static void spread(List<LocalDateTime> boundaries, TimeSlice slice, long[] minutes) {
+        LocalDateTime start = max(slice.getStartDateTime(), boundaries.get(0));
+        LocalDateTime end = min(slice.getEndDateTime(), boundaries.get(boundaries.size() - 1));
+
+        for (int index = indexOf(boundaries, start); index >= 0 && index < minutes.length && start.isBefore(end); index++) {
+            LocalDateTime periodEnd = min(end, boundaries.get(index + 1));
+            minutes[index] += Duration.between(start, periodEnd).toMinutes();
+            start = periodEnd;
+        }
+    }
+
+    private static int indexOf(List<LocalDateTime> boundaries, LocalDateTime value) {
+        int index = Collections.binarySearch(boundaries, value);
+        index = index >= 0 ? index : -index - 2;
+        return index < boundaries.size() - 1 ? index : -1;
+    }
+
+    private static LocalDate periodStart(LocalDate date, String granularity) {
+        switch (granularity) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    private static LocalDate next(LocalDate date, String granularity) {
+        switch (granularity) {
+            case WEEK:
+                return date.plusWeeks(1);
+            case MONTH:
+                return date.plusMonths(1);
+            default:
+                return date.plusDays(1);
+        }
+    }
+
+    private static BigDecimal hours(long minutes) {
+        return BigDecimal.valueOf(minutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal occupancy(long booked, long available) {
+        return available > 0 ? BigDecimal.valueOf(booked).divide(BigDecimal.valueOf(available), 4, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -2,6 +2,7 @@ package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.FileDto;
 import com.project.carbnb.entity.File;
+import com.project.carbnb.repository.FilePathCache;
 import com.project.carbnb.repository.FileRepository;
 import com.project.carbnb.service.FileService;
 import org.springframework.data.domain.Sort;
@@ -14,9 +15,11 @@ import java.util.stream.Collectors;
 public class FileServiceImpl implements FileService {
 
     private FileRepository fileRepository;
+    private FilePathCache filePathCache;
 
-    public FileServiceImpl(FileRepository fileRepository) {
+    public FileServiceImpl(FileRepository fileRepository, FilePathCache filePathCache) {
         this.fileRepository = fileRepository;
+        this.filePathCache = filePathCache;
     }
 
     @Override
@@ -43,6 +46,7 @@ public class FileServiceImpl implements FileService {
         file.setStatus(fileDto.getStatus());
         file.setName(fileDto.getName());
         fileRepository.save(file);
+        filePathCache.invalidate(file.getId());
     }
 
     @Override
@@ -50,6 +54,11 @@ public class FileServiceImpl implements FileService {
         File file = fileRepository.findById(currentFile.getId()).orElseThrow(() -> new RuntimeException("File not found"));
         file.setStatus((short) 3);
         fileRepository.save(file);
+        filePathCache.invalidate(file.getId());
+    }
+
+    private List<FileDto> convertEntitiesToDto(List<File> files) {
+        return files.stream().map(this::convertEntityToDto).collect(Collectors.toList());
     }
 
     private FileDto convertEntityToDto(File file) {
@@ -59,6 +68,11 @@ public class FileServiceImpl implements FileService {
         fileDto.setStatus(file.getStatus());
         fileDto.setName(file.getName());
         fileDto.setPath(file.getPath());
+        fileDto.setHash(file.getHash());
+        fileDto.setSize(file.getSize());
+        fileDto.setContentType(file.getContentType());
+        fileDto.setThumbnailPath(file.getThumbnailPath());
+        fileDto.setMediumPath(file.getMediumPath());
         fileDto.setCreatedAt(file.getCreatedAt());
         fileDto.setUpdatedAt(file.getUpdatedAt());
         return fileDto;
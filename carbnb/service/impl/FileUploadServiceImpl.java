@@ -4,37 +4,82 @@ import com.project.carbnb.entity.File;
 import com.project.carbnb.entity.User;
 import com.project.carbnb.repository.FileRepository;
 import com.project.carbnb.service.FileUploadService;
+import com.project.carbnb.service.ImageDerivativeService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 
 @Service
 public class FileUploadServiceImpl implements FileUploadService {
 
+    static final String URL_PREFIX = "upload/";
+
     private FileRepository fileRepository;
+    private ImageDerivativeService imageDerivativeService;
+    private Path uploadRoot;
 
-    public FileUploadServiceImpl(FileRepository fileRepository) {
+    public FileUploadServiceImpl(FileRepository fileRepository, ImageDerivativeService imageDerivativeService, @Value("${carbnb.upload.root:upload}") String uploadRoot) {
         this.fileRepository = fileRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.uploadRoot = Paths.get(uploadRoot);
     }
 
     public Long uploadFile(MultipartFile file, User user) throws IOException {
+        String sanitizedFileName = file.getOriginalFilename() != null ? file.getOriginalFilename().replaceAll("[^a-zA-Z0-9.-]", "_") : "file";
+
+        Path incoming = uploadRoot.resolve("tmp");
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+
+        try {
+            MessageDigest digest = sha256();
+            long size;
+
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            File existing = fileRepository.findFirstByHash(hash).filter(this::isStored).orElse(null);
 
-        String sanitizedFileName = file.getOriginalFilename().replaceAll("[^a-zA-Z0-9.-]", "_");
-        Path path = Paths.get("upload/" + sanitizedFileName);
+            File newFile = new File();
+            newFile.setUser(user);
+            newFile.setName(sanitizedFileName);
+            newFile.setHash(hash);
+            newFile.setSize(size);
+            newFile.setContentType(file.getContentType());
+            newFile.setStatus((short) 1);
 
-        // System.out.println(path.toAbsolutePath());
-        Files.write(path, file.getBytes());
+            if (existing != null) {
+                newFile.setPath(existing.getPath());
+                newFile.setThumbnailPath(existing.getThumbnailPath());
+                newFile.setMediumPath(existing.getMediumPath());
+            } else {
+                newFile.setPath(URL_PREFIX + store(temp, hash, extension(sanitizedFileName)));
+            }
 
-        File newFile = new File();
-        newFile.setUser(user);
-        newFile.setName(sanitizedFileName);
-        newFile.setPath(path.toString());
-        newFile.setStatus((short) 1);
-        newFile = fileRepository.save(newFile);
-        return newFile.getId();
+            newFile = fileRepository.save(newFile);
+
+            if (newFile.getMediumPath() == null) {
+                imageDerivativeService.enqueue(newFile);
+            }
+
+            return newFile.getId();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
     }
 
     public File findById(Long id) {
@@ -42,7 +87,44 @@ public class FileUploadServiceImpl implements FileUploadService {
         return file;
     }
 
-}
+    private boolean isStored(File file) {
+        return file.getPath() != null && file.getPath().startsWith(URL_PREFIX)
+                && Files.exists(uploadRoot.resolve(file.getPath().substring(URL_PREFIX.length())));
+    }
 
+    private String store(Path temp, String hash, String extension) throws IOException {
+        String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+        Path target = uploadRoot.resolve(relative);
 
+        if (!Files.exists(target)) {
+            Files.createDirectories(target.getParent());
 
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        return relative;
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available");
+        }
+    }
+}
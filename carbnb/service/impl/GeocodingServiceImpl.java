@@ -0,0 +1,173 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.entity.Geocode;
+import com.project.carbnb.entity.Spot;
+import com.project.carbnb.repository.GeocodeRepository;
+import com.project.carbnb.service.GeocodingResolver;
+import com.project.carbnb.service.GeocodingService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class GeocodingServiceImpl implements GeocodingService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingServiceImpl.class);
+
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final Duration FAILED_RETRY_AFTER = Duration.ofHours(6);
+
+    private GeocodingResolver geocodingResolver;
+    private GeocodeRepository geocodeRepository;
+    private MongoTemplate mongoTemplate;
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService retries;
+
+    public GeocodingServiceImpl(GeocodingResolver geocodingResolver, GeocodeRepository geocodeRepository, MongoTemplate mongoTemplate) {
+        this.geocodingResolver = geocodingResolver;
+        this.geocodeRepository = geocodeRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.workers = new ThreadPoolExecutor(WORKERS, WORKERS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), threads("geocoding"), new ThreadPoolExecutor.AbortPolicy());
+        this.retries = Executors.newSingleThreadScheduledExecutor(threads("geocoding-retry"));
+    }
+
+    @Override
+    public void enqueue(Long spotId, String location) {
+        if (spotId != null && location != null) {
+            submit(spotId, location, 1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${carbnb.geocoding.retry-cron:0 0 * * * *}")
+    public void enqueuePending() {
+        int capacity = workers.getQueue().remainingCapacity();
+
+        if (capacity == 0) {
+            return;
+        }
+
+        Query query = Query.query(Criteria.where("latitude").is(null)
+                .and("location").ne(null)
+                .and("status").in(Arrays.asList((short) 1, (short) 2))
+                .orOperator(Criteria.where("geocode_failed_at").is(null), Criteria.where("geocode_failed_at").lt(Instant.now().minus(FAILED_RETRY_AFTER))));
+        query.with(Sort.by(Sort.Direction.ASC, "geocode_failed_at"));
+        query.limit(capacity);
+
+        List<Spot> spots = mongoTemplate.find(query, Spot.class);
+
+        for (Spot spot : spots) {
+            enqueue(spot.getSpotId(), spot.getLocation());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retries.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void submit(Long spotId, String location, int attempt) {
+        if (workers.isShutdown()) {
+            return;
+        }
+
+        try {
+            workers.execute(() -> geocode(spotId, location, attempt));
+        } catch (RejectedExecutionException e) {
+            log.warn("Geocoding queue full, spot {} left for the next pending sweep", spotId, e);
+            markFailed(spotId, location);
+        }
+    }
+
+    private void geocode(Long spotId, String location, int attempt) {
+        try {
+            double[] coordinates = lookup(location);
+
+            if (coordinates != null) {
+                apply(spotId, location, coordinates);
+            } else {
+                log.warn("Geocoding found no coordinates for spot {}", spotId);
+                markFailed(spotId, location);
+            }
+        } catch (Exception e) {
+            if (attempt < MAX_ATTEMPTS && !retries.isShutdown()) {
+                long delay = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+                retries.schedule(() -> submit(spotId, location, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            } else {
+                log.warn("Geocoding failed for spot {} after {} attempts", spotId, attempt, e);
+                markFailed(spotId, location);
+            }
+        }
+    }
+
+    private void markFailed(Long spotId, String location) {
+        try {
+            Query query = Query.query(Criteria.where("spotId").is(spotId).and("location").is(location));
+            mongoTemplate.updateMulti(query, Update.update("geocode_failed_at", Instant.now()), Spot.class);
+        } catch (RuntimeException e) {
+            log.warn("Could not record geocoding failure for spot {}", spotId, e);
+        }
+    }
+
+    private double[] lookup(String location) throws Exception {
+        Optional<Geocode> cached = geocodeRepository.findById(location);
+
+        if (cached.isPresent()) {
+            return new double[] { cached.get().getLatitude(), cached.get().getLongitude() };
+        }
+
+        double[] coordinates = geocodingResolver.resolve(location);
+
+        if (coordinates != null) {
+            geocodeRepository.save(new Geocode(location, coordinates[0], coordinates[1], Instant.now()));
+        }
+
+        return coordinates;
+    }
+
+    private void apply(Long spotId, String location, double[] coordinates) {
+        Query query = Query.query(Criteria.where("spotId").is(spotId).and("location").is(location));
+        Update update = new Update()
+                .set("latitude", coordinates[0])
+                .set("longitude", coordinates[1])
+                .set("position", new GeoJsonPoint(coordinates[1], coordinates[0]))
+                .unset("geocode_failed_at");
+
+        mongoTemplate.updateMulti(query, update, Spot.class);
+    }
+
+    private static ThreadFactory threads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.service.GeocodingResolver;
+import org.springframework.stereotype.Component;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class GoogleMapsGeocodingResolver implements GeocodingResolver {
+
+    private static final Pattern COORDINATES = Pattern.compile("@(-?\\d+\\.\\d+),(-?\\d+\\.\\d+)");
+    private static final int TIMEOUT_MILLIS = 5000;
+
+    @Override
+    public double[] resolve(String location) throws Exception {
+        double[] coordinates = match(location);
+
+        if (coordinates == null) {
+            String redirectedUrl = getRedirectUrl(location);
+
+            if (redirectedUrl != null) {
+                coordinates = match(redirectedUrl);
+            }
+        }
+
+        return coordinates;
+    }
+
+    private double[] match(String url) {
+        Matcher matcher = COORDINATES.matcher(url);
+
+        if (matcher.find()) {
+            double latitude = Double.parseDouble(matcher.group(1));
+            double longitude = Double.parseDouble(matcher.group(2));
+            return new double[] { latitude, longitude };
+        }
+
+        return null;
+    }
+
+    private String getRedirectUrl(String shortUrl) throws Exception {
+        URL url = new URL(shortUrl);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setInstanceFollowRedirects(false);
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+
+        try {
+            connection.connect();
+            return connection.getHeaderField("Location");
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
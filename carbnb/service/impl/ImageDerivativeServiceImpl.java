@@ -0,0 +1,147 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.entity.File;
+import com.project.carbnb.repository.FilePathCache;
+import com.project.carbnb.repository.FileRepository;
+import com.project.carbnb.service.ImageDerivativeService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeServiceImpl.class);
+    private static final int THUMBNAIL_SIZE = 160;
+    private static final int MEDIUM_SIZE = 800;
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private FileRepository fileRepository;
+    private FilePathCache filePathCache;
+    private Path uploadRoot;
+    private ThreadPoolExecutor workers;
+
+    public ImageDerivativeServiceImpl(FileRepository fileRepository, FilePathCache filePathCache, @Value("${carbnb.upload.root:upload}") String uploadRoot) {
+        this.fileRepository = fileRepository;
+        this.filePathCache = filePathCache;
+        this.uploadRoot = Paths.get(uploadRoot);
+        this.workers = new ThreadPoolExecutor(WORKERS, WORKERS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivatives");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> log.warn("Image derivative queue full, job left for the next retry run"));
+    }
+
+    @Override
+    public void enqueue(File file) {
+        String hash = file.getHash();
+        String path = file.getPath();
+
+        Long id = file.getId();
+        int attempt = (file.getDerivativeAttempts() != null ? file.getDerivativeAttempts() : 0) + 1;
+
+        if (hash != null && path != null && path.startsWith(FileUploadServiceImpl.URL_PREFIX) && !workers.isShutdown()) {
+            workers.execute(() -> generate(id, hash, path, attempt));
+        }
+    }
+
+    @Scheduled(cron = "${carbnb.images.retry-cron:0 */15 * * * *}")
+    public void retryFailed() {
+        Set<String> hashes = new HashSet<>();
+
+        for (File file : fileRepository.findDerivativeRetries(FileUploadServiceImpl.URL_PREFIX + "%", MAX_ATTEMPTS, PageRequest.of(0, QUEUE_CAPACITY))) {
+            if (hashes.add(file.getHash())) {
+                enqueue(file);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void generate(Long id, String hash, String path, int attempt) {
+        try {
+            BufferedImage image = ImageIO.read(uploadRoot.resolve(path.substring(FileUploadServiceImpl.URL_PREFIX.length())).toFile());
+
+            if (image == null) {
+                log.warn("Image derivatives skipped for file {}: {} is not a readable image", id, path);
+                fileRepository.updateDerivativeAttempts(hash, MAX_ATTEMPTS);
+                return;
+            }
+
+            String thumbnailPath = write(image, hash, "thumb", THUMBNAIL_SIZE);
+            String mediumPath = write(image, hash, "medium", MEDIUM_SIZE);
+            fileRepository.updateDerivatives(hash, thumbnailPath, mediumPath);
+            filePathCache.invalidate(fileRepository.findIdsByHash(hash));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image derivatives failed for file {} (attempt {} of {})", id, attempt, MAX_ATTEMPTS, e);
+            markFailed(hash, attempt);
+        }
+    }
+
+    private void markFailed(String hash, int attempt) {
+        try {
+            fileRepository.updateDerivativeAttempts(hash, attempt);
+        } catch (RuntimeException e) {
+            log.warn("Could not record image derivative failure for hash {}", hash, e);
+        }
+    }
+
+    private String write(BufferedImage image, String hash, String suffix, int size) throws IOException {
+        double scale = Math.min(1d, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "-" + suffix + ".jpg";
+        Path target = uploadRoot.resolve(relative);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), hash + "-", ".part");
+
+        try {
+            ImageIO.write(scaled, "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return FileUploadServiceImpl.URL_PREFIX + relative;
+    }
+}
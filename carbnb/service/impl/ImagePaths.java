@@ -0,0 +1,16 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.repository.FilePaths;
+
+final class ImagePaths {
+
+    private ImagePaths() {}
+
+    static String thumbnail(FilePaths file) {
+        return file.getThumbnailPath() != null ? file.getThumbnailPath() : medium(file);
+    }
+
+    static String medium(FilePaths file) {
+        return file.getMediumPath() != null ? file.getMediumPath() : file.getPath();
+    }
+}
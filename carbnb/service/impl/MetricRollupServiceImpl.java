@@ -0,0 +1,190 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.entity.MetricRollup;
+import com.project.carbnb.repository.MetricSample;
+import com.project.carbnb.repository.PaymentRepository;
+import com.project.carbnb.repository.ReservationRepository;
+import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.repository.WithdrawalRepository;
+import com.project.carbnb.service.MetricRollupService;
+import org.bson.types.Decimal128;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class MetricRollupServiceImpl implements MetricRollupService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final List<String> GRANULARITIES = Arrays.asList(HOUR, DAY);
+    private static final List<Short> REVENUE_STATUSES = Arrays.asList((short) 1);
+    private static final List<Short> WITHDRAWAL_STATUSES = Arrays.asList((short) 1);
+
+    private MongoTemplate mongoTemplate;
+    private ReservationRepository reservationRepository;
+    private PaymentRepository paymentRepository;
+    private WithdrawalRepository withdrawalRepository;
+    private UserRepository userRepository;
+
+    public MetricRollupServiceImpl(MongoTemplate mongoTemplate, ReservationRepository reservationRepository, PaymentRepository paymentRepository, WithdrawalRepository withdrawalRepository, UserRepository userRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.reservationRepository = reservationRepository;
+        this.paymentRepository = paymentRepository;
+        this.withdrawalRepository = withdrawalRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void record(String metric, BigDecimal amount) {
+        adjust(metric, Instant.now(), 1L, amount);
+    }
+
+    @Override
+    public void adjust(String metric, Instant createdAt, long count, BigDecimal amount) {
+        for (String granularity : GRANULARITIES) {
+            increment(metric, granularity, bucket(createdAt != null ? createdAt : Instant.now(), granularity), count, amount);
+        }
+    }
+
+    @Override
+    public List<MetricRollup> range(String metric, String granularity, Instant from, Instant to) {
+        Instant start = bucket(from, granularity);
+        Query query = Query.query(Criteria.where("metric").is(metric)
+                .and("granularity").is(granularity)
+                .and("bucket").gte(start).lt(to));
+
+        Map<Instant, MetricRollup> stored = mongoTemplate.find(query, MetricRollup.class).stream()
+                .collect(Collectors.toMap(MetricRollup::getBucket, Function.identity()));
+
+        List<MetricRollup> series = new ArrayList<>();
+
+        for (Instant bucket = start; bucket.isBefore(to); bucket = bucket.plus(1, unit(granularity))) {
+            MetricRollup rollup = stored.get(bucket);
+            series.add(rollup != null ? rollup : new MetricRollup(key(metric, granularity, bucket), metric, granularity, bucket, 0L, BigDecimal.ZERO, null));
+        }
+
+        return series;
+    }
+
+    @Override
+    @Scheduled(cron = "${carbnb.metrics.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        rebuild(Instant.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (mongoTemplate.estimatedCount(MetricRollup.class) == 0) {
+            rebuild(Instant.now().plus(1, ChronoUnit.DAYS));
+        }
+    }
+
+    private void rebuild(Instant until) {
+        Map<String, MetricRollup> rollups = new HashMap<>();
+
+        backfill(rollups, until, BOOKINGS, (id, page) -> reservationRepository.findMetricSamples(id, page));
+        backfill(rollups, until, REVENUE, (id, page) -> paymentRepository.findMetricSamples(REVENUE_STATUSES, id, page));
+        backfill(rollups, until, WITHDRAWALS, (id, page) -> withdrawalRepository.findMetricSamples(WITHDRAWAL_STATUSES, id, page));
+        backfill(rollups, until, USERS, (id, page) -> userRepository.findMetricSamples(id, page));
+
+        for (String granularity : GRANULARITIES) {
+            Query closed = Query.query(Criteria.where("granularity").is(granularity).and("bucket").lt(bucket(until, granularity)));
+
+            try (Stream<MetricRollup> stored = mongoTemplate.stream(closed, MetricRollup.class)) {
+                stored.forEach(current -> {
+                    MetricRollup rebuilt = rollups.remove(current.getId());
+                    long count = rebuilt != null ? rebuilt.getCount() : 0L;
+                    BigDecimal sum = rebuilt != null ? rebuilt.getSum() : BigDecimal.ZERO;
+                    increment(current.getMetric(), granularity, current.getBucket(),
+                            count - valueOf(current.getCount()), sum.subtract(current.getSum() != null ? current.getSum() : BigDecimal.ZERO));
+                });
+            }
+        }
+
+        for (MetricRollup rollup : rollups.values()) {
+            increment(rollup.getMetric(), rollup.getGranularity(), rollup.getBucket(), rollup.getCount(), rollup.getSum());
+        }
+    }
+
+    private void increment(String metric, String granularity, Instant bucket, long count, BigDecimal amount) {
+        if (count == 0 && (amount == null || amount.signum() == 0)) {
+            return;
+        }
+
+        Update update = new Update()
+                .setOnInsert("metric", metric)
+                .setOnInsert("granularity", granularity)
+                .setOnInsert("bucket", bucket)
+                .inc("count", count)
+                .inc("sum", new Decimal128(amount != null ? amount : BigDecimal.ZERO))
+                .currentDate("updatedAt");
+
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(key(metric, granularity, bucket))), update, MetricRollup.class);
+    }
+
+    private void backfill(Map<String, MetricRollup> rollups, Instant until, String metric, BiFunction<Long, Pageable, List<MetricSample>> samples) {
+        Pageable page = PageRequest.of(0, BATCH_SIZE);
+        List<MetricSample> batch = samples.apply(0L, page);
+
+        while (!batch.isEmpty()) {
+            for (MetricSample sample : batch) {
+                if (sample.getCreatedAt() == null) {
+                    continue;
+                }
+
+                for (String granularity : GRANULARITIES) {
+                    Instant bucket = bucket(sample.getCreatedAt(), granularity);
+
+                    if (!bucket.isBefore(bucket(until, granularity))) {
+                        continue;
+                    }
+
+                    MetricRollup rollup = rollups.computeIfAbsent(key(metric, granularity, bucket),
+                            key -> new MetricRollup(key, metric, granularity, bucket, 0L, BigDecimal.ZERO, null));
+                    rollup.setCount(rollup.getCount() + 1);
+
+                    if (sample.getAmount() != null) {
+                        rollup.setSum(rollup.getSum().add(sample.getAmount()));
+                    }
+                }
+            }
+
+            batch = batch.size() < BATCH_SIZE ? new ArrayList<>() : samples.apply(batch.get(batch.size() - 1).getId(), page);
+        }
+    }
+
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
+
+    private static Instant bucket(Instant instant, String granularity) {
+        return instant.truncatedTo(unit(granularity));
+    }
+
+    private static ChronoUnit unit(String granularity) {
+        return DAY.equals(granularity) ? ChronoUnit.DAYS : ChronoUnit.HOURS;
+    }
+
+    private static String key(String metric, String granularity, Instant bucket) {
+        return metric + ":" + granularity + ":" + bucket.getEpochSecond();
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.dto.PageDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class PageCursor {
+
+    private final Instant createdAt;
+    private final List<Long> ids;
+
+    private PageCursor(Instant createdAt, List<Long> ids) {
+        this.createdAt = createdAt;
+        this.ids = ids;
+    }
+
+    Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    Long getId() {
+        return ids.get(0);
+    }
+
+    Long getId(int index) {
+        return ids.get(index);
+    }
+
+    static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            List<Long> ids = Arrays.stream(parts).skip(1).map(Long::valueOf).collect(Collectors.toList());
+            return new PageCursor(Instant.parse(parts[0]), ids);
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    static String encode(Instant createdAt, Long... ids) {
+        String value = createdAt + "|" + Arrays.stream(ids).map(String::valueOf).collect(Collectors.joining("|"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decodeOffset(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            long offset = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+
+            if (offset < 0) {
+                throw new IllegalArgumentException();
+            }
+
+            return offset;
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    static String encodeOffset(long offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Pageable first(int size, String... properties) {
+        return PageRequest.of(0, size + 1, Sort.by(Sort.Direction.DESC, properties));
+    }
+
+    static Pageable next(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static <E, D> PageDto<D> page(List<E> rows, int size, Function<E, String> cursor, Function<List<E>, List<D>> convert) {
+        boolean hasNext = rows.size() > size;
+        List<E> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursor.apply(items.get(items.size() - 1)) : null;
+        return new PageDto<>(convert.apply(items), nextCursor);
+    }
+}
@@ -1,22 +1,44 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.PaymentDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.entity.Payment;
 import com.project.carbnb.repository.PaymentRepository;
+import com.project.carbnb.repository.PaymentRow;
+import com.project.carbnb.service.BalanceLedgerService;
+import com.project.carbnb.service.EarningsReportService;
+import com.project.carbnb.service.MetricRollupService;
 import com.project.carbnb.service.PaymentService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class PaymentServiceImpl implements PaymentService {
 
+    private static final String LEDGER_REFERENCE_CONSTRAINT = "uk_ledger_entries_reference";
+
     private PaymentRepository paymentRepository;
+    private BalanceLedgerService balanceLedgerService;
+    private MetricRollupService metricRollupService;
+    private EarningsReportService earningsReportService;
+    private TransactionTemplate transactionTemplate;
 
-    public PaymentServiceImpl(PaymentRepository paymentRepository) {
+    public PaymentServiceImpl(PaymentRepository paymentRepository, BalanceLedgerService balanceLedgerService, MetricRollupService metricRollupService, EarningsReportService earningsReportService, PlatformTransactionManager transactionManager) {
         this.paymentRepository = paymentRepository;
+        this.balanceLedgerService = balanceLedgerService;
+        this.metricRollupService = metricRollupService;
+        this.earningsReportService = earningsReportService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -37,6 +59,21 @@ public class PaymentServiceImpl implements PaymentService {
         return payments.stream().map(this::convertEntityToDto).collect(Collectors.toList());
     }
 
+    @Override
+    public PageDto<PaymentDto> findByUserId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<PaymentRow> rows = after == null
+                ? paymentRepository.findRowsByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), PageCursor.next(size))
+                : paymentRepository.findRowPageByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        List<Payment> payments = rows.stream().map(PaymentRow::toPayment).collect(Collectors.toList());
+        return PageCursor.page(payments, size, payment -> PageCursor.encode(payment.getCreatedAt(), payment.getId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByUserId(Long id) {
+        return paymentRepository.countByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3));
+    }
+
     @Override
     public PaymentDto findById(Long id) {
         Payment payment = paymentRepository.findById(id).orElseThrow(() -> new RuntimeException("Payment not found"));
@@ -58,25 +95,101 @@ public class PaymentServiceImpl implements PaymentService {
         payment.setStatus(paymentDto.getStatus());
         payment.setAmount(paymentDto.getAmount());
         payment.setMethod(paymentDto.getMethod());
-        paymentRepository.save(payment);
+
+        saveAndCredit(payment);
+
+        invalidateReport(payment.getId());
+        recordRevenue(payment, 1);
     }
 
     @Override
     public void updateData(PaymentDto currentPayment, PaymentDto paymentDto) {
         Payment payment = paymentRepository.findById(currentPayment.getId()).orElseThrow(() -> new RuntimeException("Payment not found"));
+        invalidateReport(payment.getId());
+        Short previousStatus = payment.getStatus();
+        BigDecimal previousAmount = payment.getAmount();
         payment.setUser(paymentDto.getUser());
         payment.setReservation(paymentDto.getReservation());
         payment.setStatus(paymentDto.getStatus());
         payment.setAmount(paymentDto.getAmount());
         payment.setMethod(paymentDto.getMethod());
-        paymentRepository.save(payment);
+
+        saveAndCredit(payment);
+
+        invalidateReport(payment.getId());
+
+        if (!Objects.equals(previousStatus, payment.getStatus()) || !Objects.equals(previousAmount, payment.getAmount())) {
+            recordRevenue(payment.getCreatedAt(), previousStatus, previousAmount, -1);
+            recordRevenue(payment, 1);
+        }
     }
 
     @Override
     public void removeData(PaymentDto currentPayment) {
         Payment payment = paymentRepository.findById(currentPayment.getId()).orElseThrow(() -> new RuntimeException("Payment not found"));
+        Short previousStatus = payment.getStatus();
         payment.setStatus((short) 4);
         paymentRepository.save(payment);
+        invalidateReport(payment.getId());
+        recordRevenue(payment.getCreatedAt(), previousStatus, payment.getAmount(), -1);
+    }
+
+    private void saveAndCredit(Payment payment) {
+        Long id = payment.getId();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentRepository.save(payment);
+                creditHost(payment);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isLedgerReferenceConflict(e)) {
+                throw e;
+            }
+
+            // a concurrent request credited this payment first; its ledger row is committed, so the retry skips the credit
+            payment.setId(id);
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentRepository.save(payment);
+                creditHost(payment);
+            });
+        }
+    }
+
+    private static boolean isLedgerReferenceConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(LEDGER_REFERENCE_CONSTRAINT)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void creditHost(Payment payment) {
+        if (payment.getStatus() != null && payment.getStatus() == 1 && payment.getReservation() != null) {
+            Long hostId = payment.getReservation().getSchedule().getUser().getId();
+            balanceLedgerService.creditPayment(hostId, payment.getId(), payment.getAmount());
+        }
+    }
+
+    private void recordRevenue(Payment payment, int sign) {
+        recordRevenue(payment.getCreatedAt(), payment.getStatus(), payment.getAmount(), sign);
+    }
+
+    private void recordRevenue(Instant createdAt, Short status, BigDecimal amount, int sign) {
+        if (status != null && status == 1) {
+            metricRollupService.adjust(MetricRollupService.REVENUE, createdAt, sign, amount != null && sign < 0 ? amount.negate() : amount);
+        }
+    }
+
+    private void invalidateReport(Long paymentId) {
+        paymentRepository.findHostIdById(paymentId).ifPresent(earningsReportService::invalidate);
+    }
+
+    private List<PaymentDto> convertEntitiesToDto(List<Payment> payments) {
+        return payments.stream().map(this::convertEntityToDto).collect(Collectors.toList());
     }
 
     private PaymentDto convertEntityToDto(Payment payment) {
@@ -0,0 +1,330 @@
+package com.project.carbnb.service.impl;
+
+import com.project.carbnb.entity.RatingAggregate;
+import com.project.carbnb.entity.Reservation;
+import com.project.carbnb.entity.Review;
+import com.project.carbnb.entity.Schedule;
+import com.project.carbnb.repository.ReservationRepository;
+import com.project.carbnb.repository.ReviewRepository;
+import com.project.carbnb.repository.ScheduleRepository;
+import com.project.carbnb.service.RatingAggregateService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class RatingAggregateServiceImpl implements RatingAggregateService {
+
+    private static final List<Short> COUNTED_STATUSES = Arrays.asList((short) 1, (short) 2);
+    private static final int BATCH_SIZE = 500;
+    private static final String REBUILD_MARKERS = "rebuild_markers";
+    private static final String REBUILD_MARKER = "rating_aggregates";
+
+    private MongoTemplate mongoTemplate;
+    private ReservationRepository reservationRepository;
+    private ReviewRepository reviewRepository;
+    private ScheduleRepository scheduleRepository;
+
+    public RatingAggregateServiceImpl(MongoTemplate mongoTemplate, ReservationRepository reservationRepository, ReviewRepository reviewRepository, ScheduleRepository scheduleRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.reservationRepository = reservationRepository;
+        this.reviewRepository = reviewRepository;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    @Override
+    public Map<Long, RatingAggregate> find(String scope, Collection<Long> ids) {
+        List<String> keys = ids.stream().filter(Objects::nonNull).distinct().map(id -> key(scope, id)).collect(Collectors.toList());
+
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return mongoTemplate.find(Query.query(Criteria.where("id").in(keys)), RatingAggregate.class).stream()
+                .collect(Collectors.toMap(RatingAggregate::getTargetId, Function.identity()));
+    }
+
+    @Override
+    public void reviewChanged(Long reservationId, Short previousRating, Short rating) {
+        if (reservationId == null || Objects.equals(previousRating, rating)) {
+            return;
+        }
+
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+
+        if (reservation == null || !COUNTED_STATUSES.contains(reservation.getStatus())) {
+            return;
+        }
+
+        Tally delta = new Tally(null, null);
+        delta.remove(previousRating);
+        delta.add(rating);
+
+        Schedule schedule = reservation.getSchedule();
+        increment(SCHEDULE, schedule.getId(), delta);
+        increment(SPOT, schedule.getSpot(), delta);
+        increment(USER, schedule.getUser().getId(), delta);
+        syncScheduleAverage(schedule.getId(), find(SCHEDULE, Arrays.asList(schedule.getId())).get(schedule.getId()));
+    }
+
+    @Override
+    public void refreshSchedule(Long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+
+        if (schedule == null) {
+            return;
+        }
+
+        List<Long> reservations = reservationRepository.findByScheduleIdAndStatusIn(scheduleId, COUNTED_STATUSES, Sort.unsorted()).stream()
+                .map(Reservation::getId)
+                .collect(Collectors.toList());
+
+        Tally fresh = new Tally(SCHEDULE, scheduleId);
+
+        if (!reservations.isEmpty()) {
+            reviewRepository.findByReservationInAndStatusIn(reservations, COUNTED_STATUSES, Sort.unsorted())
+                    .forEach(review -> fresh.add(review.getRating()));
+        }
+
+        RatingAggregate current = find(SCHEDULE, Arrays.asList(scheduleId)).get(scheduleId);
+        Tally delta = fresh.minus(current);
+
+        increment(SCHEDULE, scheduleId, delta);
+        increment(SPOT, schedule.getSpot(), delta);
+        increment(USER, schedule.getUser().getId(), delta);
+        syncScheduleAverage(scheduleId, fresh.toAggregate());
+    }
+
+    @Override
+    @Scheduled(cron = "${carbnb.ratings.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        Map<String, Tally> tallies = new HashMap<>();
+        List<Review> batch = new ArrayList<>();
+
+        try (Stream<Review> reviews = mongoTemplate.stream(Query.query(Criteria.where("status").in(COUNTED_STATUSES)), Review.class)) {
+            reviews.forEach(review -> {
+                batch.add(review);
+
+                if (batch.size() == BATCH_SIZE) {
+                    tally(batch, tallies);
+                    batch.clear();
+                }
+            });
+        }
+
+        tally(batch, tallies);
+
+        Map<Long, BigDecimal> averages = new HashMap<>();
+
+        for (Tally tally : tallies.values()) {
+            if (SCHEDULE.equals(tally.scope)) {
+                averages.put(tally.targetId, average(tally.toAggregate()));
+            }
+        }
+
+        try (Stream<RatingAggregate> stored = mongoTemplate.stream(new Query(), RatingAggregate.class)) {
+            stored.forEach(current -> {
+                Tally rebuilt = tallies.remove(current.getId());
+                Tally fresh = rebuilt != null ? rebuilt : new Tally(current.getScope(), current.getTargetId());
+                increment(current.getScope(), current.getTargetId(), fresh.minus(current));
+            });
+        }
+
+        for (Tally tally : tallies.values()) {
+            increment(tally.scope, tally.targetId, tally);
+        }
+
+        syncScheduleAverages(averages);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(REBUILD_MARKER)), new Update().currentDate("rebuiltAt"), REBUILD_MARKERS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(REBUILD_MARKER)), REBUILD_MARKERS)) {
+            rebuild();
+        }
+    }
+
+    private void syncScheduleAverage(Long scheduleId, RatingAggregate aggregate) {
+        scheduleRepository.findById(scheduleId).ifPresent(schedule -> {
+            BigDecimal average = average(aggregate);
+
+            if (!sameAverage(schedule.getRatingAverage(), average)) {
+                schedule.setRatingAverage(average);
+                scheduleRepository.save(schedule);
+            }
+        });
+    }
+
+    private void syncScheduleAverages(Map<Long, BigDecimal> averages) {
+        Set<Long> ids = new HashSet<>(averages.keySet());
+        ids.addAll(scheduleRepository.findRatedIds());
+        List<Long> batch = new ArrayList<>();
+
+        for (Long id : ids) {
+            batch.add(id);
+
+            if (batch.size() == BATCH_SIZE) {
+                syncScheduleAverages(batch, averages);
+                batch.clear();
+            }
+        }
+
+        syncScheduleAverages(batch, averages);
+    }
+
+    private void syncScheduleAverages(List<Long> ids, Map<Long, BigDecimal> averages) {
+        List<Schedule> changed = scheduleRepository.findAllById(ids).stream()
+                .filter(schedule -> !sameAverage(schedule.getRatingAverage(), averages.get(schedule.getId())))
+                .collect(Collectors.toList());
+
+        changed.forEach(schedule -> schedule.setRatingAverage(averages.get(schedule.getId())));
+        scheduleRepository.saveAll(changed);
+    }
+
+    private static BigDecimal average(RatingAggregate aggregate) {
+        return aggregate != null && aggregate.getCount() != null && aggregate.getCount() > 0
+                ? BigDecimal.valueOf(aggregate.getSum()).divide(BigDecimal.valueOf(aggregate.getCount()), 2, RoundingMode.HALF_UP)
+                : null;
+    }
+
+    private static boolean sameAverage(BigDecimal current, BigDecimal average) {
+        return current == null ? average == null : average != null && current.compareTo(average) == 0;
+    }
+
+    private void tally(List<Review> reviews, Map<String, Tally> tallies) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = reviews.stream().map(Review::getReservation).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<Long, Reservation> reservations = reservationRepository.findAllById(ids).stream()
+                .filter(reservation -> COUNTED_STATUSES.contains(reservation.getStatus()))
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        for (Review review : reviews) {
+            Reservation reservation = reservations.get(review.getReservation());
+
+            if (reservation == null) {
+                continue;
+            }
+
+            Schedule schedule = reservation.getSchedule();
+            tallies.computeIfAbsent(key(SCHEDULE, schedule.getId()), key -> new Tally(SCHEDULE, schedule.getId())).add(review.getRating());
+            tallies.computeIfAbsent(key(SPOT, schedule.getSpot()), key -> new Tally(SPOT, schedule.getSpot())).add(review.getRating());
+            tallies.computeIfAbsent(key(USER, schedule.getUser().getId()), key -> new Tally(USER, schedule.getUser().getId())).add(review.getRating());
+        }
+    }
+
+    private void increment(String scope, Long targetId, Tally delta) {
+        if (targetId == null || delta.isEmpty()) {
+            return;
+        }
+
+        Update update = new Update()
+                .set("scope", scope)
+                .set("targetId", targetId)
+                .inc("count", delta.count)
+                .inc("sum", delta.sum)
+                .currentDate("updatedAt");
+
+        for (int rating = 1; rating <= 5; rating++) {
+            if (delta.histogram[rating] != 0) {
+                update.inc("histogram." + rating, delta.histogram[rating]);
+            }
+        }
+
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(key(scope, targetId))), update, RatingAggregate.class);
+    }
+
+    private static String key(String scope, Long id) {
+        return scope + ":" + id;
+    }
+
+    private static class Tally {
+
+        private final String scope;
+        private final Long targetId;
+        private long count;
+        private long sum;
+        private final long[] histogram = new long[6];
+
+        private Tally(String scope, Long targetId) {
+            this.scope = scope;
+            this.targetId = targetId;
+        }
+
+        private void add(Short rating) {
+            change(rating, 1);
+        }
+
+        private void remove(Short rating) {
+            change(rating, -1);
+        }
+
+        private void change(Short rating, int sign) {
+            if (rating == null || rating < 1 || rating > 5) {
+                return;
+            }
+
+            count += sign;
+            sum += (long) sign * rating;
+            histogram[rating] += sign;
+        }
+
+        private Tally minus(RatingAggregate aggregate) {
+            Tally delta = new Tally(scope, targetId);
+            delta.count = count;
+            delta.sum = sum;
+            System.arraycopy(histogram, 0, delta.histogram, 0, histogram.length);
+
+            if (aggregate != null) {
+                delta.count -= aggregate.getCount() != null ? aggregate.getCount() : 0;
+                delta.sum -= aggregate.getSum() != null ? aggregate.getSum() : 0;
+
+                if (aggregate.getHistogram() != null) {
+                    for (int rating = 1; rating <= 5; rating++) {
+                        delta.histogram[rating] -= aggregate.getHistogram().getOrDefault(String.valueOf(rating), 0L);
+                    }
+                }
+            }
+
+            return delta;
+        }
+
+        private boolean isEmpty() {
+            return count == 0 && sum == 0 && Arrays.stream(histogram).allMatch(value -> value == 0);
+        }
+
+        private RatingAggregate toAggregate() {
+            Map<String, Long> buckets = new HashMap<>();
+
+            for (int rating = 1; rating <= 5; rating++) {
+                buckets.put(String.valueOf(rating), histogram[rating]);
+            }
+
+            return new RatingAggregate(key(scope, targetId), scope, targetId, count, sum, buckets, Instant.now());
+        }
+    }
+}
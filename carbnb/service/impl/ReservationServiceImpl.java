@@ -1,71 +1,135 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.ReservationDto;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.ReservationSummaryDto;
 import com.project.carbnb.dto.ScheduleDto;
 import com.project.carbnb.entity.*;
 import com.project.carbnb.repository.*;
+import com.project.carbnb.service.AvailabilityService;
+import com.project.carbnb.service.EarningsReportService;
+import com.project.carbnb.service.MetricRollupService;
+import com.project.carbnb.service.RatingAggregateService;
 import com.project.carbnb.service.ReservationService;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ReservationServiceImpl implements ReservationService {
 
     private ReservationRepository reservationRepository;
-    private VehicleRepository vehicleRepository;
-    private SpotRepository spotRepository;
+    private ScheduleRepository scheduleRepository;
     private PaymentRepository paymentRepository;
-    private ReviewRepository reviewRepository;
-    private FileRepository fileRepository;
+    private CrossStoreJoin crossStoreJoin;
+    private ParallelFetch parallelFetch;
+    private AvailabilityService availabilityService;
+    private RatingAggregateService ratingAggregateService;
+    private MetricRollupService metricRollupService;
+    private EarningsReportService earningsReportService;
+    private TransactionTemplate transactionTemplate;
+    private StripedLock scheduleLocks = new StripedLock(Runtime.getRuntime().availableProcessors() * 16);
 
     public ReservationServiceImpl(
         ReservationRepository reservationRepository,
-        VehicleRepository vehicleRepository,
-        SpotRepository spotRepository,
+        ScheduleRepository scheduleRepository,
         PaymentRepository paymentRepository,
-        ReviewRepository reviewRepository,
-        FileRepository fileRepository
+        CrossStoreJoin crossStoreJoin,
+        ParallelFetch parallelFetch,
+        AvailabilityService availabilityService,
+        RatingAggregateService ratingAggregateService,
+        MetricRollupService metricRollupService,
+        EarningsReportService earningsReportService,
+        PlatformTransactionManager transactionManager
     ) {
         this.reservationRepository = reservationRepository;
-        this.vehicleRepository = vehicleRepository;
-        this.spotRepository = spotRepository;
+        this.scheduleRepository = scheduleRepository;
         this.paymentRepository = paymentRepository;
-        this.reviewRepository = reviewRepository;
-        this.fileRepository = fileRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.parallelFetch = parallelFetch;
+        this.availabilityService = availabilityService;
+        this.ratingAggregateService = ratingAggregateService;
+        this.metricRollupService = metricRollupService;
+        this.earningsReportService = earningsReportService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public List<ReservationDto> findAll() {
         List<Reservation> reservations = reservationRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reservations.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reservations);
     }
 
     @Override
     public List<ReservationDto> findStatus() {
         List<Reservation> reservations = reservationRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2, (short) 3), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reservations.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reservations);
     }
 
     @Override
     public List<ReservationDto> findByUserId(Long id) {
         List<Reservation> reservations = reservationRepository.findByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reservations.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reservations);
     }
 
     @Override
     public List<ReservationDto> findByScheduleId(Long id) {
         List<Reservation> reservations = reservationRepository.findByScheduleIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reservations.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reservations);
     }
 
     @Override
     public List<ReservationDto> findBySchedule(List<ScheduleDto> scheduleDto) {
         List<Long> schedules = scheduleDto.stream().map(ScheduleDto::getId).collect(Collectors.toList());
         List<Reservation> reservations = reservationRepository.findByScheduleIdInAndStatusIn(schedules, Arrays.asList((short) 1, (short) 2, (short) 3), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reservations.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reservations);
+    }
+
+    @Override
+    public PageDto<ReservationDto> findByHostId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ReservationRow> rows = after == null
+                ? reservationRepository.findRowsByHostAndStatusIn(id, (short) 1, Arrays.asList((short) 1, (short) 2, (short) 3), PageCursor.next(size))
+                : reservationRepository.findRowPageByHostAndStatusIn(id, (short) 1, Arrays.asList((short) 1, (short) 2, (short) 3), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        List<Reservation> reservations = rows.stream().map(ReservationRow::toReservation).collect(Collectors.toList());
+        return PageCursor.page(reservations, size, reservation -> PageCursor.encode(reservation.getCreatedAt(), reservation.getId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByHostId(Long id) {
+        return reservationRepository.countByScheduleUserIdAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 1, (short) 2, (short) 3));
+    }
+
+    @Override
+    public ReservationSummaryDto summarizeByHostId(Long id) {
+        Instant today = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant();
+        List<Short> reserved = Arrays.asList((short) 1, (short) 2, (short) 3);
+        List<Short> earning = Arrays.asList((short) 1, (short) 2);
+
+        return new ReservationSummaryDto(
+                reservationRepository.countByScheduleUserIdAndScheduleStatusAndStatusInAndCreatedAtGreaterThanEqual(id, (short) 1, reserved, today),
+                countByHostId(id),
+                reservationRepository.countByScheduleUserIdAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 1)),
+                reservationRepository.countByScheduleUserIdAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 2)),
+                reservationRepository.countByScheduleUserIdAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 3)),
+                paymentRepository.sumHostReservationAmounts(id, (short) 1, earning, today),
+                paymentRepository.sumHostReservationAmounts(id, (short) 1, earning, Instant.EPOCH)
+        );
     }
 
     @Override
@@ -104,11 +168,18 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.setStartDateTime(reservationDto.getStartDateTime().withSecond(0).withNano(0));
         reservation.setEndDateTime(reservationDto.getEndDateTime().withSecond(0).withNano(0));
         reservationRepository.save(reservation);
+        availabilityService.addReservation(reservation);
+        earningsReportService.invalidate(reservation.getSchedule().getUser().getId());
+        metricRollupService.record(MetricRollupService.BOOKINGS, null);
     }
 
     @Override
     public void updateData(ReservationDto currentReservation, ReservationDto reservationDto) {
         Reservation reservation = reservationRepository.findById(currentReservation.getId()).orElseThrow(() -> new RuntimeException("Reservation not found"));
+        Long previousSchedule = reservation.getSchedule().getId();
+        Long previousHost = reservation.getSchedule().getUser().getId();
+        Short previousStatus = reservation.getStatus();
+        availabilityService.invalidate(previousSchedule);
         reservation.setUser(reservationDto.getUser());
         reservation.setSchedule(reservationDto.getSchedule());
         reservation.setVehicle(reservationDto.getVehicle());
@@ -116,6 +187,14 @@ public class ReservationServiceImpl implements ReservationService {
         reservation.setStartDateTime(reservationDto.getStartDateTime());
         reservation.setEndDateTime(reservationDto.getEndDateTime());
         reservationRepository.save(reservation);
+        availabilityService.invalidate(reservation.getSchedule().getId());
+        earningsReportService.invalidate(previousHost);
+        earningsReportService.invalidate(reservation.getSchedule().getUser().getId());
+
+        if (!Objects.equals(previousSchedule, reservation.getSchedule().getId()) || !Objects.equals(previousStatus, reservation.getStatus())) {
+            ratingAggregateService.refreshSchedule(previousSchedule);
+            ratingAggregateService.refreshSchedule(reservation.getSchedule().getId());
+        }
     }
 
     @Override
@@ -123,6 +202,9 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findById(currentReservation.getId()).orElseThrow(() -> new RuntimeException("Reservation not found"));
         reservation.setStatus((short) 4);
         reservationRepository.save(reservation);
+        availabilityService.invalidate(reservation.getSchedule().getId());
+        earningsReportService.invalidate(reservation.getSchedule().getUser().getId());
+        ratingAggregateService.refreshSchedule(reservation.getSchedule().getId());
     }
 
     @Override
@@ -130,25 +212,83 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findById(currentReservation.getId()).orElseThrow(() -> new RuntimeException("Reservation not found"));
         reservation.setStatus((short) 3);
         reservationRepository.save(reservation);
+        availabilityService.invalidate(reservation.getSchedule().getId());
+        earningsReportService.invalidate(reservation.getSchedule().getUser().getId());
+        ratingAggregateService.refreshSchedule(reservation.getSchedule().getId());
     }
 
     @Override
     public long saveData(ReservationDto reservationDto) {
-        Reservation reservation = new Reservation();
-        reservation.setId(reservationDto.getId());
-        reservation.setUser(reservationDto.getUser());
-        reservation.setSchedule(reservationDto.getSchedule());
-        reservation.setVehicle(reservationDto.getVehicle());
-        reservation.setStatus(reservationDto.getStatus());
-        reservation.setStartDateTime(reservationDto.getStartDateTime().withSecond(0).withNano(0));
-        reservation.setEndDateTime(reservationDto.getEndDateTime().withSecond(0).withNano(0));
-        reservationRepository.save(reservation);
+        Long scheduleId = reservationDto.getSchedule().getId();
+        LocalDateTime startDateTime = reservationDto.getStartDateTime().withSecond(0).withNano(0);
+        LocalDateTime endDateTime = reservationDto.getEndDateTime().withSecond(0).withNano(0);
+
+        Lock lock = scheduleLocks.get(scheduleId);
+        lock.lock();
+
+        try {
+            Reservation reservation = transactionTemplate.execute(status -> {
+                Schedule schedule = scheduleRepository.findLockedById(scheduleId).orElseThrow(() -> new RuntimeException("Schedule not found"));
+
+                if (!startDateTime.isBefore(endDateTime) ||
+                    startDateTime.isBefore(schedule.getStartDateTime()) ||
+                    endDateTime.isAfter(schedule.getEndDateTime()) ||
+                    reservationRepository.existsByScheduleIdAndStatusInAndStartDateTimeLessThanAndEndDateTimeGreaterThan(scheduleId, Arrays.asList((short) 1, (short) 2), endDateTime, startDateTime)
+                ) {
+                    return null;
+                }
 
-        return reservation.getId();
+                Reservation newReservation = new Reservation();
+                newReservation.setId(reservationDto.getId());
+                newReservation.setUser(reservationDto.getUser());
+                newReservation.setSchedule(schedule);
+                newReservation.setVehicle(reservationDto.getVehicle());
+                newReservation.setStatus(reservationDto.getStatus());
+                newReservation.setStartDateTime(startDateTime);
+                newReservation.setEndDateTime(endDateTime);
+                return reservationRepository.save(newReservation);
+            });
+
+            if (reservation == null) {
+                return 0;
+            }
+
+            availabilityService.addReservation(reservation);
+            earningsReportService.invalidate(reservation.getSchedule().getUser().getId());
+            metricRollupService.record(MetricRollupService.BOOKINGS, null);
+            return reservation.getId();
+        } finally {
+            lock.unlock();
+        }
     }
 
 
     private ReservationDto convertEntityToDto(Reservation reservation) {
+        return convertEntitiesToDto(Collections.singletonList(reservation)).get(0);
+    }
+
+    private List<ReservationDto> convertEntitiesToDto(List<Reservation> reservations) {
+        List<Long> reservationIds = reservations.stream().map(Reservation::getId).collect(Collectors.toList());
+        List<Long> vehicleIds = reservations.stream().map(Reservation::getVehicle).collect(Collectors.toList());
+        List<Long> spotIds = reservations.stream().map(reservation -> reservation.getSchedule().getSpot()).collect(Collectors.toList());
+
+        try (ParallelFetch.Scope scope = parallelFetch.open()) {
+            ParallelFetch.Fork<IdentityMap<Payment>> payments = scope.fork(ParallelFetch.Store.SQL, () -> crossStoreJoin.paymentsByReservation(reservationIds, Function.identity()));
+            ParallelFetch.Fork<Map<Long, List<Review>>> reviews = scope.fork(ParallelFetch.Store.MONGO, () -> crossStoreJoin.reviewsByReservation(reservationIds, Function.identity(), Arrays.asList((short) 1)));
+            ParallelFetch.Fork<IdentityMap<Spot>> spots = scope.fork(ParallelFetch.Store.MONGO, () -> crossStoreJoin.spots(spotIds, Function.identity()));
+            IdentityMap<Vehicle> vehicles = crossStoreJoin.vehicles(vehicleIds, Function.identity());
+
+            Set<Long> fileIds = new HashSet<>();
+            vehicles.values().forEach(vehicle -> fileIds.add(vehicle.getImageId()));
+            spots.get().values().forEach(spot -> fileIds.add(spot.getImageId()));
+            IdentityMap<FilePaths> files = crossStoreJoin.files(fileIds);
+            scope.join();
+
+            return reservations.stream().map(reservation -> convertEntityToDto(reservation, vehicles, spots.get(), files, payments.get(), reviews.get())).collect(Collectors.toList());
+        }
+    }
+
+    private ReservationDto convertEntityToDto(Reservation reservation, IdentityMap<Vehicle> vehicles, IdentityMap<Spot> spots, IdentityMap<FilePaths> files, IdentityMap<Payment> payments, Map<Long, List<Review>> reviews) {
         ReservationDto reservationDto = new ReservationDto();
         reservationDto.setId(reservation.getId());
         reservationDto.setUser(reservation.getUser());
@@ -160,53 +300,50 @@ public class ReservationServiceImpl implements ReservationService {
         reservationDto.setCreatedAt(reservation.getCreatedAt());
         reservationDto.setUpdatedAt(reservation.getUpdatedAt());
 
-        paymentRepository.findByReservationId(reservation.getId()).ifPresent(payment -> reservationDto.setAmount(payment.getAmount()));
-        paymentRepository.findByReservationId(reservation.getId()).ifPresent(payment -> reservationDto.setMethod(payment.getMethod()));
-
-        reviewRepository.findByReservationAndStatusIn(reservation.getId(), Arrays.asList((short) 1)).ifPresent(review -> reservationDto.setReviewId(review.getReviewId()));
-        reviewRepository.findByReservationAndStatusIn(reservation.getId(), Arrays.asList((short) 1)).ifPresent(review -> reservationDto.setReviewRating(review.getRating()));
-        reviewRepository.findByReservationAndStatusIn(reservation.getId(), Arrays.asList((short) 1)).ifPresent(review -> reservationDto.setReviewComment(review.getComment()));
-
-        Vehicle vehicle = vehicleRepository.findByVehicleId(reservation.getVehicle()).orElseThrow(() -> new RuntimeException("Vehicle not found"));
-        Spot spot = spotRepository.findBySpotId(reservation.getSchedule().getSpot()).orElseThrow(() -> new RuntimeException("Spot not found"));
-
-        if (spot != null) {
-            reservationDto.setSpotId(spot.getSpotId());
-            reservationDto.setSpotName(spot.getName());
-            reservationDto.setSpotType(spot.getType());
-            reservationDto.setSpotLocation(spot.getLocation());
-            reservationDto.setSpotAddress(spot.getAddress());
-            reservationDto.setSpotDescription(spot.getDescription());
-            reservationDto.setSpotSizeWidth(spot.getSizeWidth());
-            reservationDto.setSpotSizeLength(spot.getSizeLength());
-            reservationDto.setSpotSizeHeight(spot.getSizeHeight());
-            reservationDto.setSpotLatitude(spot.getLatitude());
-            reservationDto.setSpotLongitude(spot.getLongitude());
-
-            if (spot.getImageId() != null) {
-                File spotFile = fileRepository.findById(spot.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-                if (spotFile != null) {
-                    reservationDto.setSpotImagePath(spotFile.getPath());
-                }
-            }
+        Payment payment = payments.get(reservation.getId());
+
+        if (payment != null) {
+            reservationDto.setAmount(payment.getAmount());
+            reservationDto.setMethod(payment.getMethod());
+        }
+
+        List<Review> reservationReviews = reviews.getOrDefault(reservation.getId(), Collections.emptyList());
+
+        if (!reservationReviews.isEmpty()) {
+            Review review = reservationReviews.get(0);
+            reservationDto.setReviewId(review.getReviewId());
+            reservationDto.setReviewRating(review.getRating());
+            reservationDto.setReviewComment(review.getComment());
         }
 
-        if (vehicle != null) {
-            reservationDto.setVehicleType(vehicle.getType());
-            reservationDto.setVehicleLicensePlate(vehicle.getLicensePlate());
-            reservationDto.setVehicleProvince(vehicle.getProvince());
-            reservationDto.setVehicleBrand(vehicle.getBrand());
-            reservationDto.setVehicleModel(vehicle.getModel());
-            reservationDto.setVehicleColor(vehicle.getColor());
+        Vehicle vehicle = vehicles.require(reservation.getVehicle());
+        Spot spot = spots.require(reservation.getSchedule().getSpot());
+
+        reservationDto.setSpotId(spot.getSpotId());
+        reservationDto.setSpotName(spot.getName());
+        reservationDto.setSpotType(spot.getType());
+        reservationDto.setSpotLocation(spot.getLocation());
+        reservationDto.setSpotAddress(spot.getAddress());
+        reservationDto.setSpotDescription(spot.getDescription());
+        reservationDto.setSpotSizeWidth(spot.getSizeWidth());
+        reservationDto.setSpotSizeLength(spot.getSizeLength());
+        reservationDto.setSpotSizeHeight(spot.getSizeHeight());
+        reservationDto.setSpotLatitude(spot.getLatitude());
+        reservationDto.setSpotLongitude(spot.getLongitude());
+
+        if (spot.getImageId() != null) {
+            reservationDto.setSpotImagePath(ImagePaths.medium(files.require(spot.getImageId())));
+        }
 
-            if (vehicle.getImageId() != null) {
-                File file = fileRepository.findById(vehicle.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
+        reservationDto.setVehicleType(vehicle.getType());
+        reservationDto.setVehicleLicensePlate(vehicle.getLicensePlate());
+        reservationDto.setVehicleProvince(vehicle.getProvince());
+        reservationDto.setVehicleBrand(vehicle.getBrand());
+        reservationDto.setVehicleModel(vehicle.getModel());
+        reservationDto.setVehicleColor(vehicle.getColor());
 
-                if (file != null) {
-                    reservationDto.setImagePath(file.getPath());
-                }
-            }
+        if (vehicle.getImageId() != null) {
+            reservationDto.setImagePath(ImagePaths.medium(files.require(vehicle.getImageId())));
         }
 
         return reservationDto;
@@ -1,52 +1,90 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.ReviewDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.ReservationDto;
-import com.project.carbnb.entity.File;
+import com.project.carbnb.entity.Reservation;
 import com.project.carbnb.entity.Review;
+import com.project.carbnb.entity.Schedule;
 import com.project.carbnb.entity.User;
-import com.project.carbnb.repository.FileRepository;
+import com.project.carbnb.repository.CrossStoreJoin;
+import com.project.carbnb.repository.FilePaths;
+import com.project.carbnb.repository.IdentityMap;
+import com.project.carbnb.repository.ReservationRepository;
+import com.project.carbnb.repository.SequenceAllocator;
 import com.project.carbnb.repository.ReviewRepository;
-import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.service.RatingAggregateService;
 import com.project.carbnb.service.ReviewService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int BATCH_SIZE = 500;
+
     private ReviewRepository reviewRepository;
-    private UserRepository userRepository;
-    private FileRepository fileRepository;
+    private ReservationRepository reservationRepository;
+    private CrossStoreJoin crossStoreJoin;
+    private SequenceAllocator sequenceAllocator;
+    private RatingAggregateService ratingAggregateService;
+    private MongoTemplate mongoTemplate;
 
-    public ReviewServiceImpl(ReviewRepository reviewRepository, UserRepository userRepository, FileRepository fileRepository) {
+    public ReviewServiceImpl(ReviewRepository reviewRepository, ReservationRepository reservationRepository, CrossStoreJoin crossStoreJoin, SequenceAllocator sequenceAllocator, RatingAggregateService ratingAggregateService, MongoTemplate mongoTemplate) {
         this.reviewRepository = reviewRepository;
-        this.userRepository = userRepository;
-        this.fileRepository = fileRepository;
+        this.reservationRepository = reservationRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.sequenceAllocator = sequenceAllocator;
+        this.ratingAggregateService = ratingAggregateService;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
     public List<ReviewDto> findAll() {
         List<Review> reviews = reviewRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reviews.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reviews);
     }
 
     @Override
     public List<ReviewDto> findStatus() {
         List<Review> reviews = reviewRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reviews.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reviews);
     }
 
     @Override
     public List<ReviewDto> findByReservation(List<ReservationDto> reservationDto) {
         List<Long> reservations = reservationDto.stream().map(ReservationDto::getId).collect(Collectors.toList());
         List<Review> reviews = reviewRepository.findByReservationInAndStatusIn(reservations, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reviews.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(reviews);
+    }
+
+    @Override
+    public PageDto<ReviewDto> findByHostId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Review> reviews = after == null
+                ? reviewRepository.findByHostAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 1), PageCursor.first(size, "createdAt", "reviewId"))
+                : reviewRepository.findPageByHostAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 1), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        return PageCursor.page(reviews, size, review -> PageCursor.encode(review.getCreatedAt(), review.getReviewId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByHostId(Long id) {
+        return reviewRepository.countByHostAndScheduleStatusAndStatusIn(id, (short) 1, Arrays.asList((short) 1));
     }
 
     @Override
@@ -73,38 +111,106 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public void storeData(ReviewDto reviewDto) {
         Review review = new Review();
-        review.setReviewId(reviewRepository.count() + 1);
+        review.setReviewId(sequenceAllocator.next(Review.class, "review_id"));
         review.setUser(reviewDto.getUser());
         review.setReservation(reviewDto.getReservation());
+        link(review, scheduleOf(review.getReservation()));
         review.setStatus(reviewDto.getStatus());
         review.setRating(reviewDto.getRating());
         review.setComment(reviewDto.getComment());
         review.setCreatedAt(Instant.now());
         review.setUpdatedAt(Instant.now());
         reviewRepository.save(review);
+        ratingAggregateService.reviewChanged(review.getReservation(), null, countedRating(review));
     }
 
     @Override
     public void updateData(ReviewDto currentReview, ReviewDto reviewDto) {
         Review review = reviewRepository.findByReviewId(currentReview.getReviewId()).orElseThrow(() -> new RuntimeException("Review not found"));
+        Long previousReservation = review.getReservation();
+        Short previousRating = countedRating(review);
         review.setUser(reviewDto.getUser());
         review.setReservation(reviewDto.getReservation());
         review.setStatus(reviewDto.getStatus());
         review.setRating(reviewDto.getRating());
         review.setComment(reviewDto.getComment());
         review.setUpdatedAt(Instant.now());
+
+        if (!Objects.equals(previousReservation, review.getReservation()) || review.getHost() == null || review.getScheduleStatus() == null) {
+            link(review, scheduleOf(review.getReservation()));
+        }
+
         reviewRepository.save(review);
+
+        if (Objects.equals(previousReservation, review.getReservation())) {
+            ratingAggregateService.reviewChanged(review.getReservation(), previousRating, countedRating(review));
+        } else {
+            ratingAggregateService.reviewChanged(previousReservation, previousRating, null);
+            ratingAggregateService.reviewChanged(review.getReservation(), null, countedRating(review));
+        }
     }
 
     @Override
     public void removeData(ReviewDto currentReview) {
         Review review = reviewRepository.findByReviewId(currentReview.getReviewId()).orElseThrow(() -> new RuntimeException("Review not found"));
+        Short previousRating = countedRating(review);
         review.setStatus((short) 3);
         reviewRepository.save(review);
+        ratingAggregateService.reviewChanged(review.getReservation(), previousRating, null);
+    }
+
+    @Override
+    public void scheduleChanged(Long scheduleId, Long host, Short scheduleStatus) {
+        List<Long> reservations = reservationRepository.findIdsByScheduleId(scheduleId, 0L, PageRequest.of(0, BATCH_SIZE));
+
+        while (!reservations.isEmpty()) {
+            Query query = Query.query(Criteria.where("reservation_id").in(reservations));
+            mongoTemplate.updateMulti(query, new Update().set("host_id", host).set("schedule_status", scheduleStatus), Review.class);
+            reservations = reservationRepository.findIdsByScheduleId(scheduleId, reservations.get(reservations.size() - 1), PageRequest.of(0, BATCH_SIZE));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSchedules() {
+        List<Review> reviews = reviewRepository.findWithoutSchedule(0L, PageRequest.of(0, BATCH_SIZE));
+
+        while (!reviews.isEmpty()) {
+            List<Long> ids = reviews.stream().map(Review::getReservation).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+            Map<Long, Schedule> schedules = reservationRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Reservation::getId, Reservation::getSchedule));
+            List<Review> resolved = reviews.stream().filter(review -> schedules.containsKey(review.getReservation())).collect(Collectors.toList());
+
+            resolved.forEach(review -> link(review, schedules.get(review.getReservation())));
+            reviewRepository.saveAll(resolved);
+            reviews = reviewRepository.findWithoutSchedule(reviews.get(reviews.size() - 1).getReviewId(), PageRequest.of(0, BATCH_SIZE));
+        }
+    }
+
+    private Schedule scheduleOf(Long reservation) {
+        return reservation == null ? null : reservationRepository.findById(reservation).map(Reservation::getSchedule).orElse(null);
+    }
+
+    private void link(Review review, Schedule schedule) {
+        review.setHost(schedule != null ? schedule.getUser().getId() : null);
+        review.setScheduleStatus(schedule != null ? schedule.getStatus() : null);
+    }
+
+    private Short countedRating(Review review) {
+        return review.getStatus() != null && (review.getStatus() == 1 || review.getStatus() == 2) ? review.getRating() : null;
     }
 
     private ReviewDto convertEntityToDto(Review review) {
-        User user = userRepository.findById(review.getUser()).orElseThrow(() -> new RuntimeException("User not found"));
+        return convertEntitiesToDto(Collections.singletonList(review)).get(0);
+    }
+
+    private List<ReviewDto> convertEntitiesToDto(List<Review> reviews) {
+        IdentityMap<User> users = crossStoreJoin.users(reviews, Review::getUser);
+        IdentityMap<FilePaths> files = crossStoreJoin.files(users.values(), User::getImageId);
+        return reviews.stream().map(review -> convertEntityToDto(review, users, files)).collect(Collectors.toList());
+    }
+
+    private ReviewDto convertEntityToDto(Review review, IdentityMap<User> users, IdentityMap<FilePaths> files) {
+        User user = users.require(review.getUser());
 
         ReviewDto reviewDto = new ReviewDto();
         reviewDto.setReviewId(review.getReviewId());
@@ -121,11 +227,7 @@ public class ReviewServiceImpl implements ReviewService {
         reviewDto.setLastName(user.getLastName());
 
         if (user.getImageId() != null) {
-            File file = fileRepository.findById(user.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-            if (file != null) {
-                reviewDto.setImagePath(file.getPath());
-            }
+            reviewDto.setImagePath(ImagePaths.thumbnail(files.require(user.getImageId())));
         }
 
         return reviewDto;
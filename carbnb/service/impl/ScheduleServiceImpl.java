@@ -1,63 +1,132 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.ScheduleDto;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.ScheduleSearchDto;
 import com.project.carbnb.entity.*;
 import com.project.carbnb.repository.*;
+import com.project.carbnb.service.AvailabilityService;
+import com.project.carbnb.service.RatingAggregateService;
+import com.project.carbnb.service.ReviewService;
 import com.project.carbnb.service.ScheduleService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
+    private static final int SEARCH_BATCHES = 10;
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_TEXT_SPOTS = 1000;
+
     private ScheduleRepository scheduleRepository;
-    private UserRepository userRepository;
-    private SpotRepository spotRepository;
-    private ReservationRepository reservationRepository;
-    private ReviewRepository reviewRepository;
-    private FileRepository fileRepository;
-
-    public ScheduleServiceImpl(
-            ScheduleRepository scheduleRepository,
-            UserRepository userRepository,
-            SpotRepository spotRepository,
-            ReservationRepository reservationRepository,
-            ReviewRepository reviewRepository,
-            FileRepository fileRepository
-    ) {
+    private CrossStoreJoin crossStoreJoin;
+    private ParallelFetch parallelFetch;
+    private AvailabilityService availabilityService;
+    private RatingAggregateService ratingAggregateService;
+    private MongoTemplate mongoTemplate;
+    private ReviewService reviewService;
+
+    public ScheduleServiceImpl(ScheduleRepository scheduleRepository, CrossStoreJoin crossStoreJoin, ParallelFetch parallelFetch, AvailabilityService availabilityService, RatingAggregateService ratingAggregateService, MongoTemplate mongoTemplate, ReviewService reviewService) {
         this.scheduleRepository = scheduleRepository;
-        this.userRepository = userRepository;
-        this.spotRepository = spotRepository;
-        this.reservationRepository = reservationRepository;
-        this.reviewRepository = reviewRepository;
-        this.fileRepository = fileRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.parallelFetch = parallelFetch;
+        this.availabilityService = availabilityService;
+        this.ratingAggregateService = ratingAggregateService;
+        this.mongoTemplate = mongoTemplate;
+        this.reviewService = reviewService;
     }
 
     @Override
     public List<ScheduleDto> findAll() {
         List<Schedule> schedules = scheduleRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return schedules.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(schedules);
     }
 
     @Override
     public List<ScheduleDto> findStatus() {
         List<Schedule> schedules = scheduleRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return schedules.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(schedules);
+    }
+
+    @Override
+    public PageDto<ScheduleDto> search(ScheduleSearchDto searchDto, String cursor, int size) {
+        ScheduleSearch search = criteria(searchDto);
+        Sort order = order(searchDto.getSort());
+        List<Schedule> items = new ArrayList<>();
+        long position = PageCursor.decodeOffset(cursor);
+        String nextCursor = null;
+        boolean exhausted = false;
+
+        for (int batch = 0; batch < SEARCH_BATCHES && nextCursor == null && !exhausted; batch++) {
+            List<Schedule> schedules = scheduleRepository.search(search, order, position, size + 1);
+            availabilityService.loadSchedules(schedules.stream().map(Schedule::getId).collect(Collectors.toList()));
+            exhausted = schedules.size() <= size;
+
+            for (Schedule schedule : schedules) {
+                if (!availabilityService.isFullyBooked(schedule)) {
+                    if (items.size() == size) {
+                        nextCursor = PageCursor.encodeOffset(position);
+                        break;
+                    }
+
+                    items.add(schedule);
+                }
+
+                position++;
+            }
+        }
+
+        if (nextCursor == null && !exhausted) {
+            nextCursor = PageCursor.encodeOffset(position);
+        }
+
+        return new PageDto<>(convertEntitiesToDto(items), nextCursor);
     }
 
     @Override
     public List<ScheduleDto> findByUserId(Long id) {
         List<Schedule> schedules = scheduleRepository.findByUserIdAndStatusIn(id, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return schedules.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(schedules);
+    }
+
+    @Override
+    public PageDto<ScheduleDto> findByUserId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ScheduleRow> rows = after == null
+                ? scheduleRepository.findRowsByUserIdAndStatusIn(id, Arrays.asList((short) 1), PageCursor.next(size))
+                : scheduleRepository.findRowPageByUserIdAndStatusIn(id, Arrays.asList((short) 1), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        List<Schedule> schedules = rows.stream().map(ScheduleRow::toSchedule).collect(Collectors.toList());
+        return PageCursor.page(schedules, size, schedule -> PageCursor.encode(schedule.getCreatedAt(), schedule.getId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByUserId(Long id) {
+        return scheduleRepository.countByUserIdAndStatusIn(id, Arrays.asList((short) 1));
     }
 
     @Override
     public List<ScheduleDto> findBySpotId(Long id) {
         List<Schedule> schedules = scheduleRepository.findBySpotAndStatusIn(id, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return schedules.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(schedules);
     }
 
     @Override
@@ -71,6 +140,11 @@ public class ScheduleServiceImpl implements ScheduleService {
         return scheduleRepository.findById(id).orElseThrow(() -> new RuntimeException("Schedule not found"));
     }
 
+    @Override
+    public Schedule findOpenById(Long id) {
+        return scheduleRepository.findByIdAndStatusIn(id, Arrays.asList((short) 1)).orElse(null);
+    }
+
     @Override
     public ScheduleDto findByIdAndUserId(Long id, Long userId) {
         Schedule schedule = scheduleRepository.findByIdAndUserIdAndStatusIn(id, userId, Arrays.asList((short) 1)).orElseThrow(() -> new RuntimeException("Schedule not found"));
@@ -91,12 +165,16 @@ public class ScheduleServiceImpl implements ScheduleService {
         schedule.setDescription(scheduleDto.getDescription());
         schedule.setStartDateTime(scheduleDto.getStartDateTime().withSecond(0).withNano(0));
         schedule.setEndDateTime(scheduleDto.getEndDateTime().withSecond(0).withNano(0));
+        applySpot(schedule, findSpot(schedule.getSpot()));
         scheduleRepository.save(schedule);
     }
 
     @Override
     public void updateData(ScheduleDto currentSchedule, ScheduleDto scheduleDto) {
         Schedule schedule = scheduleRepository.findById(currentSchedule.getId()).orElseThrow(() -> new RuntimeException("Schedule not found"));
+        boolean moved = !Objects.equals(schedule.getSpot(), scheduleDto.getSpot());
+        Long previousUser = schedule.getUser().getId();
+        Short previousStatus = schedule.getStatus();
         schedule.setUser(scheduleDto.getUser());
         schedule.setSpot(scheduleDto.getSpot());
         schedule.setStatus(scheduleDto.getStatus());
@@ -107,7 +185,16 @@ public class ScheduleServiceImpl implements ScheduleService {
         schedule.setDescription(scheduleDto.getDescription());
         schedule.setStartDateTime(scheduleDto.getStartDateTime());
         schedule.setEndDateTime(scheduleDto.getEndDateTime());
+
+        if (moved || schedule.getSpotArea() == null) {
+            applySpot(schedule, findSpot(schedule.getSpot()));
+        }
+
         scheduleRepository.save(schedule);
+
+        if (!Objects.equals(previousUser, schedule.getUser().getId()) || !Objects.equals(previousStatus, schedule.getStatus())) {
+            reviewService.scheduleChanged(schedule.getId(), schedule.getUser().getId(), schedule.getStatus());
+        }
     }
 
     @Override
@@ -115,9 +202,109 @@ public class ScheduleServiceImpl implements ScheduleService {
         Schedule schedule = scheduleRepository.findById(currentSchedule.getId()).orElseThrow(() -> new RuntimeException("Schedule not found"));
         schedule.setStatus((short) 3);
         scheduleRepository.save(schedule);
+        reviewService.scheduleChanged(schedule.getId(), schedule.getUser().getId(), schedule.getStatus());
+    }
+
+    private ScheduleSearch criteria(ScheduleSearchDto searchDto) {
+        String text = null;
+        List<Long> textSpotIds = null;
+
+        if (searchDto.getQuery() != null && !searchDto.getQuery().isBlank()) {
+            String query = searchDto.getQuery().trim();
+            List<String> tokens = SearchTerms.tokens(query);
+            text = "%" + query.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            textSpotIds = tokens.isEmpty() ? null : spotIds(new Criteria().andOperator(tokens.stream()
+                    .map(token -> Criteria.where("searchTerms").regex("^" + Pattern.quote(token)))
+                    .toArray(Criteria[]::new)));
+        }
+
+        return new ScheduleSearch(Arrays.asList((short) 1), searchDto.getStartDateTime(), searchDto.getEndDateTime(),
+                searchDto.getMinPrice(), searchDto.getMaxPrice(), searchDto.getCharger(),
+                searchDto.getSpotType(), searchDto.getMinWidth(), searchDto.getMaxWidth(), searchDto.getMinLength(), searchDto.getMaxLength(),
+                text, textSpotIds);
+    }
+
+    private List<Long> spotIds(Criteria criteria) {
+        Query query = Query.query(criteria).limit(MAX_TEXT_SPOTS);
+        query.fields().include("spotId");
+        return mongoTemplate.find(query, Spot.class).stream().map(Spot::getSpotId).collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSpotFields() {
+        List<Schedule> schedules = scheduleRepository.findWithoutSpotFields(0L, PageRequest.of(0, BATCH_SIZE));
+
+        while (!schedules.isEmpty()) {
+            Query query = Query.query(Criteria.where("spotId").in(schedules.stream().map(Schedule::getSpot).distinct().collect(Collectors.toList())));
+            query.fields().include("spotId").include("type").include("sizeWidth").include("sizeLength");
+
+            Map<Long, Spot> spots = new HashMap<>();
+            mongoTemplate.find(query, Spot.class).forEach(spot -> spots.put(spot.getSpotId(), spot));
+
+            schedules.forEach(schedule -> applySpot(schedule, spots.get(schedule.getSpot())));
+            scheduleRepository.saveAll(schedules);
+            schedules = scheduleRepository.findWithoutSpotFields(schedules.get(schedules.size() - 1).getId(), PageRequest.of(0, BATCH_SIZE));
+        }
+    }
+
+    static void applySpot(Schedule schedule, Spot spot) {
+        schedule.setSpotType(spot != null ? spot.getType() : null);
+        schedule.setSpotWidth(spot != null ? spot.getSizeWidth() : null);
+        schedule.setSpotLength(spot != null ? spot.getSizeLength() : null);
+        schedule.setSpotArea(spot != null ? SpotServiceImpl.area(spot) : BigDecimal.ZERO);
+    }
+
+    private Spot findSpot(Long spotId) {
+        Query query = Query.query(Criteria.where("spotId").is(spotId));
+        query.fields().include("spotId").include("type").include("sizeWidth").include("sizeLength");
+        return mongoTemplate.findOne(query, Spot.class);
+    }
+
+    private static Sort order(String sort) {
+        switch (sort == null ? "" : sort) {
+            case "price":
+                return Sort.by(Sort.Direction.ASC, "pricePerHour");
+            case "price_desc":
+                return Sort.by(Sort.Direction.DESC, "pricePerHour");
+            case "charger_price":
+                return Sort.by(Sort.Order.asc("chargerPrice").nullsLast());
+            case "charger_price_desc":
+                return Sort.by(Sort.Order.desc("chargerPrice").nullsLast());
+            case "newest":
+                return Sort.by(Sort.Direction.DESC, "createdAt");
+            case "size":
+                return Sort.by(Sort.Direction.ASC, "spotArea");
+            case "size_desc":
+                return Sort.by(Sort.Direction.DESC, "spotArea");
+            case "rating_asc":
+                return Sort.by(Sort.Order.asc("ratingAverage").nullsFirst());
+            default:
+                return Sort.by(Sort.Order.desc("ratingAverage").nullsLast());
+        }
     }
 
     private ScheduleDto convertEntityToDto(Schedule schedule) {
+        return convertEntitiesToDto(Collections.singletonList(schedule)).get(0);
+    }
+
+    private List<ScheduleDto> convertEntitiesToDto(List<Schedule> schedules) {
+        List<Long> scheduleIds = schedules.stream().map(Schedule::getId).collect(Collectors.toList());
+
+        try (ParallelFetch.Scope scope = parallelFetch.open()) {
+            ParallelFetch.Fork<Map<Long, RatingAggregate>> ratings = scope.fork(ParallelFetch.Store.MONGO, () -> ratingAggregateService.find(RatingAggregateService.SCHEDULE, scheduleIds));
+            IdentityMap<Spot> spots = crossStoreJoin.spots(schedules, Schedule::getSpot);
+
+            Set<Long> fileIds = new HashSet<>();
+            schedules.forEach(schedule -> fileIds.add(schedule.getUser().getImageId()));
+            spots.values().forEach(spot -> fileIds.add(spot.getImageId()));
+            IdentityMap<FilePaths> files = crossStoreJoin.files(fileIds);
+            scope.join();
+
+            return schedules.stream().map(schedule -> convertEntityToDto(schedule, spots, files, ratings.get().get(schedule.getId()))).collect(Collectors.toList());
+        }
+    }
+
+    private ScheduleDto convertEntityToDto(Schedule schedule, IdentityMap<Spot> spots, IdentityMap<FilePaths> files, RatingAggregate rating) {
         ScheduleDto scheduleDto = new ScheduleDto();
         scheduleDto.setId(schedule.getId());
         scheduleDto.setUser(schedule.getUser());
@@ -133,53 +320,32 @@ public class ScheduleServiceImpl implements ScheduleService {
         scheduleDto.setCreatedAt(schedule.getCreatedAt());
         scheduleDto.setUpdatedAt(schedule.getUpdatedAt());
 
-        User user = userRepository.findById(schedule.getUser().getId()).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = schedule.getUser();
 
         if (user.getImageId() != null) {
-            File file = fileRepository.findById(user.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-            if (file != null) {
-                scheduleDto.setUserImagePath(file.getPath());
-            }
-        }
-
-        Spot spot = spotRepository.findBySpotId(schedule.getSpot()).orElseThrow(() -> new RuntimeException("Spot not found"));
-
-        if (spot != null) {
-            scheduleDto.setSpotName(spot.getName());
-            scheduleDto.setSpotType(spot.getType());
-            scheduleDto.setSpotLocation(spot.getLocation());
-            scheduleDto.setSpotAddress(spot.getAddress());
-            scheduleDto.setSpotDescription(spot.getDescription());
-            scheduleDto.setSpotSizeWidth(spot.getSizeWidth());
-            scheduleDto.setSpotSizeLength(spot.getSizeLength());
-            scheduleDto.setSpotSizeHeight(spot.getSizeHeight());
-            scheduleDto.setSpotLatitude(spot.getLatitude());
-            scheduleDto.setSpotLongitude(spot.getLongitude());
-
-            if (spot.getImageId() != null) {
-                File file = fileRepository.findById(spot.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-                if (file != null) {
-                    scheduleDto.setSpotImagePath(file.getPath());
-                }
-            }
+            scheduleDto.setUserImagePath(ImagePaths.thumbnail(files.require(user.getImageId())));
         }
 
+        Spot spot = spots.require(schedule.getSpot());
 
-        List<Reservation> reservations = reservationRepository.findByScheduleIdAndStatusIn(schedule.getId(), Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<Long> reservationIds = reservations.stream().map(Reservation::getId).collect(Collectors.toList());
-        List<Review> reviews = reviewRepository.findByReservationInAndStatusIn(reservationIds, Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Float totalRating = (float) 0;
+        scheduleDto.setSpotName(spot.getName());
+        scheduleDto.setSpotType(spot.getType());
+        scheduleDto.setSpotLocation(spot.getLocation());
+        scheduleDto.setSpotAddress(spot.getAddress());
+        scheduleDto.setSpotDescription(spot.getDescription());
+        scheduleDto.setSpotSizeWidth(spot.getSizeWidth());
+        scheduleDto.setSpotSizeLength(spot.getSizeLength());
+        scheduleDto.setSpotSizeHeight(spot.getSizeHeight());
+        scheduleDto.setSpotLatitude(spot.getLatitude());
+        scheduleDto.setSpotLongitude(spot.getLongitude());
 
-        if (!reviews.isEmpty()) {
-            for(Review review : reviews) {
-                totalRating += review.getRating();
-            }
+        if (spot.getImageId() != null) {
+            scheduleDto.setSpotImagePath(ImagePaths.medium(files.require(spot.getImageId())));
+        }
 
-            Float averageRating = totalRating/reviews.size();
-            scheduleDto.setReviews(averageRating);
+        if (rating != null && rating.getCount() != null && rating.getCount() > 0) {
+            scheduleDto.setReviews((float) rating.getSum() / rating.getCount());
+            scheduleDto.setReviewCount(rating.getCount());
         }
 
         return scheduleDto;
@@ -0,0 +1,36 @@
+package com.project.carbnb.service.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+final class SearchTerms {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 200;
+
+    private SearchTerms() {}
+
+    static List<String> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    static List<String> of(String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+
+        Arrays.stream(fields).filter(Objects::nonNull).forEach(field -> terms.addAll(tokens(field)));
+
+        return terms.stream().limit(MAX_TERMS).collect(Collectors.toList());
+    }
+}
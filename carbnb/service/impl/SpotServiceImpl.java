@@ -1,56 +1,116 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.BookmarkDto;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.dto.SpotDto;
+import com.project.carbnb.entity.Schedule;
 import com.project.carbnb.entity.Spot;
-import com.project.carbnb.entity.File;
+import com.project.carbnb.entity.RatingAggregate;
 import com.project.carbnb.entity.User;
-import com.project.carbnb.repository.FileRepository;
+import com.project.carbnb.repository.CrossStoreJoin;
+import com.project.carbnb.repository.FilePaths;
+import com.project.carbnb.repository.IdentityMap;
+import com.project.carbnb.repository.ParallelFetch;
+import com.project.carbnb.repository.ScheduleRepository;
+import com.project.carbnb.repository.SequenceAllocator;
 import com.project.carbnb.repository.SpotRepository;
-import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.service.GeocodingService;
+import com.project.carbnb.service.RatingAggregateService;
 import com.project.carbnb.service.SpotService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class SpotServiceImpl implements SpotService {
 
-    private SpotRepository spotRepository;
-    private UserRepository userRepository;
-    private FileRepository fileRepository;
+    private static final double DISTANCE_EPSILON = 1e-9;
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_CURSOR_TIES = 1000;
+    private static final int MAX_CURSOR_LENGTH = 32 * 1024;
 
-    public SpotServiceImpl(SpotRepository spotRepository, UserRepository userRepository, FileRepository fileRepository) {
+    private SpotRepository spotRepository;
+    private ScheduleRepository scheduleRepository;
+    private CrossStoreJoin crossStoreJoin;
+    private ParallelFetch parallelFetch;
+    private SequenceAllocator sequenceAllocator;
+    private GeocodingService geocodingService;
+    private RatingAggregateService ratingAggregateService;
+    private MongoTemplate mongoTemplate;
+
+    public SpotServiceImpl(SpotRepository spotRepository, ScheduleRepository scheduleRepository, CrossStoreJoin crossStoreJoin, ParallelFetch parallelFetch, SequenceAllocator sequenceAllocator, GeocodingService geocodingService, RatingAggregateService ratingAggregateService, MongoTemplate mongoTemplate) {
         this.spotRepository = spotRepository;
-        this.userRepository = userRepository;
-        this.fileRepository = fileRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.parallelFetch = parallelFetch;
+        this.sequenceAllocator = sequenceAllocator;
+        this.geocodingService = geocodingService;
+        this.ratingAggregateService = ratingAggregateService;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
     public List<SpotDto> findAll() {
         List<Spot> spots = spotRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return spots.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(spots);
     }
 
     @Override
     public List<SpotDto> findStatus() {
         List<Spot> spots = spotRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return spots.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(spots);
     }
 
     @Override
     public List<SpotDto> findByUserId(Long id) {
         List<Spot> spots = spotRepository.findByUserAndStatusIn(id, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return spots.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(spots);
+    }
+
+    @Override
+    public PageDto<SpotDto> findByUserId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Spot> spots = after == null
+                ? spotRepository.findByUserAndStatusIn(id, Arrays.asList((short) 1), PageCursor.first(size, "createdAt", "spotId"))
+                : spotRepository.findPageByUserAndStatusIn(id, Arrays.asList((short) 1), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        return PageCursor.page(spots, size, spot -> PageCursor.encode(spot.getCreatedAt(), spot.getSpotId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByUserId(Long id) {
+        return spotRepository.countByUserAndStatusIn(id, Arrays.asList((short) 1));
     }
 
     @Override
@@ -65,23 +125,125 @@ public class SpotServiceImpl implements SpotService {
 
         List<Spot> spots = spotRepository.findBySpotIdInAndStatusIn(spotIds, Arrays.asList((short) 1));
 
-        List<SpotDto> spotDtos = spots.stream()
-                .map(this::convertEntityToDto)
-                .collect(Collectors.toList());
+        Map<Long, SpotDto> spotDtos = convertEntitiesToDto(spots).stream()
+                .collect(Collectors.toMap(SpotDto::getSpotId, Function.identity(), (first, second) -> first));
 
         List<SpotDto> sortedSpotDtos = new ArrayList<>();
         for (BookmarkDto bookmark : sortedBookmarks) {
-            for (SpotDto spotDto : spotDtos) {
-                if (spotDto.getSpotId().equals(bookmark.getSpot())) {
-                    sortedSpotDtos.add(spotDto);
-                    break;
-                }
+            SpotDto spotDto = spotDtos.get(bookmark.getSpot());
+
+            if (spotDto != null) {
+                sortedSpotDtos.add(spotDto);
             }
         }
 
         return sortedSpotDtos;
     }
 
+    @Override
+    public PageDto<SpotDto> findNearby(Double latitude, Double longitude, Double radius, int limit, String cursor) {
+        double minDistance = 0;
+        Set<Long> seen = new HashSet<>();
+
+        if (cursor != null && !cursor.isEmpty()) {
+            if (cursor.length() > MAX_CURSOR_LENGTH) {
+                throw PageCursor.invalid();
+            }
+
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                minDistance = Double.parseDouble(parts[0]);
+
+                if (parts.length > 1) {
+                    String[] ties = parts[1].split(",");
+
+                    if (ties.length > MAX_CURSOR_TIES) {
+                        throw PageCursor.invalid();
+                    }
+
+                    Arrays.stream(ties).map(Long::valueOf).forEach(seen::add);
+                }
+            } catch (RuntimeException e) {
+                throw PageCursor.invalid();
+            }
+
+            if (!Double.isFinite(minDistance) || minDistance < 0) {
+                throw PageCursor.invalid();
+            }
+        }
+
+        Range<Distance> distance = Range.closed(
+                new Distance(Math.max(0, minDistance - DISTANCE_EPSILON), Metrics.KILOMETERS),
+                new Distance(radius, Metrics.KILOMETERS)
+        );
+
+        GeoResults<Spot> results = spotRepository.findByPositionNearAndStatusIn(
+                new GeoJsonPoint(longitude, latitude),
+                distance,
+                Arrays.asList((short) 1),
+                PageRequest.of(0, limit + seen.size() + 1)
+        );
+
+        List<GeoResult<Spot>> page = results.getContent().stream()
+                .filter(result -> !seen.contains(result.getContent().getSpotId()))
+                .limit(limit + 1)
+                .collect(Collectors.toList());
+
+        boolean hasNext = page.size() > limit;
+
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+
+        List<SpotDto> spotDtos = convertEntitiesToDto(page.stream().map(GeoResult::getContent).collect(Collectors.toList()));
+
+        for (int i = 0; i < spotDtos.size(); i++) {
+            spotDtos.get(i).setDistance(page.get(i).getDistance().getValue());
+        }
+
+        String nextCursor = null;
+
+        if (hasNext) {
+            double lastDistance = page.get(page.size() - 1).getDistance().getValue();
+            Set<Long> ties = new HashSet<>(seen);
+
+            if (lastDistance - DISTANCE_EPSILON > minDistance) {
+                ties.clear();
+            }
+
+            page.stream()
+                    .filter(result -> result.getDistance().getValue() >= lastDistance - DISTANCE_EPSILON)
+                    .forEach(result -> ties.add(result.getContent().getSpotId()));
+
+            String value = lastDistance + ":" + ties.stream().map(String::valueOf).collect(Collectors.joining(","));
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return new PageDto<>(spotDtos, nextCursor);
+    }
+
+    @Override
+    public PageDto<SpotDto> search(String text, String cursor, int size) {
+        Query query = searchQuery(text);
+
+        if (query == null) {
+            return new PageDto<>(new ArrayList<>(), null);
+        }
+
+        long offset = PageCursor.decodeOffset(cursor);
+        List<Spot> spots = mongoTemplate.find(query.skip(offset).limit(size + 1), Spot.class);
+        boolean hasNext = spots.size() > size;
+        List<Spot> page = hasNext ? spots.subList(0, size) : spots;
+
+        return new PageDto<>(convertEntitiesToDto(page), hasNext ? PageCursor.encodeOffset(offset + size) : null);
+    }
+
+    @Override
+    public long countSearch(String text) {
+        Query query = searchQuery(text);
+        return query == null ? 0 : mongoTemplate.count(query, Spot.class);
+    }
+
     @Override
     public SpotDto findById(Long id) {
         Spot spot = spotRepository.findBySpotId(id).orElseThrow(() -> new RuntimeException("Spot not found"));
@@ -94,11 +256,10 @@ public class SpotServiceImpl implements SpotService {
         return convertEntityToDto(spot);
     }
 
-
     @Override
     public void storeData(SpotDto spotDto) {
         Spot spot = new Spot();
-        spot.setSpotId(spotRepository.count() + 1);
+        spot.setSpotId(sequenceAllocator.next(Spot.class, "spot_id"));
         spot.setUser(spotDto.getUser());
         spot.setStatus(spotDto.getStatus());
         spot.setName(spotDto.getName());
@@ -110,59 +271,21 @@ public class SpotServiceImpl implements SpotService {
         spot.setSizeLength(spotDto.getSizeLength());
         spot.setSizeHeight(spotDto.getSizeHeight());
         spot.setImageId(spotDto.getImageId());
+        spot.setSearchTerms(SearchTerms.of(spot.getName(), spot.getAddress(), spot.getDescription()));
         spot.setCreatedAt(Instant.now());
         spot.setUpdatedAt(Instant.now());
 
-        try {
-            double[] coordinates = extractCoordinates(spotDto.getLocation());
-            if (coordinates != null) {
-                spot.setLatitude(coordinates[0]);
-                spot.setLongitude(coordinates[1]);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error extracting coordinates: " + e.getMessage());
-        }
-
         spotRepository.save(spot);
-    }
-
-    private double[] extractCoordinates(String googleMapUrl) throws Exception {
-        double[] coordinates = null;
-
-        Pattern pattern = Pattern.compile("@(-?\\d+\\.\\d+),(-?\\d+\\.\\d+)");
-        Matcher matcher = pattern.matcher(googleMapUrl);
-
-        if (matcher.find()) {
-            double latitude = Double.parseDouble(matcher.group(1));
-            double longitude = Double.parseDouble(matcher.group(2));
-            coordinates = new double[] { latitude, longitude };
-        } else {
-            String redirectedUrl = getRedirectUrl(googleMapUrl);
-            matcher = pattern.matcher(redirectedUrl);
-            if (matcher.find()) {
-                double latitude = Double.parseDouble(matcher.group(1));
-                double longitude = Double.parseDouble(matcher.group(2));
-                coordinates = new double[] { latitude, longitude };
-            }
-        }
-
-        return coordinates;
-    }
-
-    private String getRedirectUrl(String shortUrl) throws Exception {
-        URL url = new URL(shortUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setInstanceFollowRedirects(false);
-        connection.connect();
-
-        String redirectUrl = connection.getHeaderField("Location");
-        connection.disconnect();
-        return redirectUrl;
+        geocodingService.enqueue(spot.getSpotId(), spot.getLocation());
     }
 
     @Override
     public void updateData(SpotDto currentSpot, SpotDto spotDto) {
         Spot spot = spotRepository.findBySpotId(currentSpot.getSpotId()).orElseThrow(() -> new RuntimeException("Spot not found"));
+        boolean relocated = !Objects.equals(spot.getLocation(), spotDto.getLocation());
+        Short previousType = spot.getType();
+        BigDecimal previousWidth = spot.getSizeWidth();
+        BigDecimal previousLength = spot.getSizeLength();
         spot.setUser(spotDto.getUser());
         spot.setStatus(spotDto.getStatus());
         spot.setName(spotDto.getName());
@@ -173,6 +296,7 @@ public class SpotServiceImpl implements SpotService {
         spot.setSizeWidth(spotDto.getSizeWidth());
         spot.setSizeLength(spotDto.getSizeLength());
         spot.setSizeHeight(spotDto.getSizeHeight());
+        spot.setSearchTerms(SearchTerms.of(spot.getName(), spot.getAddress(), spot.getDescription()));
         spot.setUpdatedAt(Instant.now());
 
         if (spotDto.getImageId() != null) {
@@ -181,18 +305,103 @@ public class SpotServiceImpl implements SpotService {
             spot.setImageId(null);
         }
 
+        if (relocated) {
+            spot.setLatitude(null);
+            spot.setLongitude(null);
+            spot.setPosition(null);
+            spot.setGeocodeFailedAt(null);
+        }
+
         spotRepository.save(spot);
+
+        if (relocated) {
+            geocodingService.enqueue(spot.getSpotId(), spot.getLocation());
+        }
+
+        if (!Objects.equals(previousType, spot.getType()) || !sameSize(previousWidth, spot.getSizeWidth()) || !sameSize(previousLength, spot.getSizeLength())) {
+            List<Schedule> schedules = scheduleRepository.findBySpot(spot.getSpotId());
+            schedules.forEach(schedule -> ScheduleServiceImpl.applySpot(schedule, spot));
+            scheduleRepository.saveAll(schedules);
+        }
     }
 
     @Override
     public void removeData(SpotDto currentSpot) {
         Spot spot = spotRepository.findBySpotId(currentSpot.getSpotId()).orElseThrow(() -> new RuntimeException("Spot not found"));
         spot.setStatus((short) 3);
+        spot.setSearchTerms(null);
         spot.setUpdatedAt(Instant.now());
         spotRepository.save(spot);
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexSearchTerms() {
+        Query query = Query.query(Criteria.where("searchTerms").exists(false).and("status").in(Arrays.asList((short) 1, (short) 2)));
+        query.limit(BATCH_SIZE);
+
+        List<Spot> spots = mongoTemplate.find(query, Spot.class);
+
+        while (!spots.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Spot.class);
+
+            for (Spot spot : spots) {
+                operations.updateOne(
+                        Query.query(Criteria.where("id").is(spot.getId())),
+                        Update.update("searchTerms", SearchTerms.of(spot.getName(), spot.getAddress(), spot.getDescription()))
+                );
+            }
+
+            operations.execute();
+            spots = mongoTemplate.find(query, Spot.class);
+        }
+    }
+
+    private Query searchQuery(String text) {
+        List<String> tokens = SearchTerms.tokens(text);
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        boolean typing = !Character.isWhitespace(text.charAt(text.length() - 1));
+        List<String> words = typing ? tokens.subList(0, tokens.size() - 1) : tokens;
+
+        Criteria criteria = Criteria.where("status").in(Arrays.asList((short) 1)).andOperator(tokens.stream()
+                .map(token -> Criteria.where("searchTerms").regex("^" + Pattern.quote(token)))
+                .toArray(Criteria[]::new));
+
+        if (words.isEmpty()) {
+            return Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "name", "spotId"));
+        }
+
+        return TextQuery.queryText(TextCriteria.forLanguage("none").matchingAny(words.toArray(new String[0])))
+                .sortByScore()
+                .addCriteria(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "spotId"));
+    }
+
     private SpotDto convertEntityToDto(Spot spot) {
+        return convertEntitiesToDto(Collections.singletonList(spot)).get(0);
+    }
+
+    private List<SpotDto> convertEntitiesToDto(List<Spot> spots) {
+        List<Long> spotIds = spots.stream().map(Spot::getSpotId).collect(Collectors.toList());
+
+        try (ParallelFetch.Scope scope = parallelFetch.open()) {
+            ParallelFetch.Fork<Map<Long, RatingAggregate>> ratings = scope.fork(ParallelFetch.Store.MONGO, () -> ratingAggregateService.find(RatingAggregateService.SPOT, spotIds));
+            IdentityMap<User> users = crossStoreJoin.users(spots, Spot::getUser);
+
+            Set<Long> fileIds = new HashSet<>();
+            users.values().forEach(user -> fileIds.add(user.getImageId()));
+            spots.forEach(spot -> fileIds.add(spot.getImageId()));
+            IdentityMap<FilePaths> files = crossStoreJoin.files(fileIds);
+            scope.join();
+
+            return spots.stream().map(spot -> convertEntityToDto(spot, users, files, ratings.get().get(spot.getSpotId()))).collect(Collectors.toList());
+        }
+    }
+
+    private SpotDto convertEntityToDto(Spot spot, IdentityMap<User> users, IdentityMap<FilePaths> files, RatingAggregate rating) {
         SpotDto spotDto = new SpotDto();
         spotDto.setSpotId(spot.getSpotId());
         spotDto.setUser(spot.getUser());
@@ -211,28 +420,33 @@ public class SpotServiceImpl implements SpotService {
         spotDto.setCreatedAt(spot.getCreatedAt());
         spotDto.setUpdatedAt(spot.getUpdatedAt());
 
-        User user = userRepository.findById(spot.getUser()).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = users.require(spot.getUser());
         spotDto.setUsername(user.getUsername());
         spotDto.setFirstName(user.getFirstName());
         spotDto.setLastName(user.getLastName());
         spotDto.setPhoneNumber(user.getPhoneNumber());
 
         if (user.getImageId() != null) {
-            File userFile = fileRepository.findById(user.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-            if (userFile != null) {
-                spotDto.setUserImagePath(userFile.getPath());
-            }
+            spotDto.setUserImagePath(ImagePaths.thumbnail(files.require(user.getImageId())));
         }
 
         if (spot.getImageId() != null) {
-            File file = fileRepository.findById(spot.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
+            spotDto.setImagePath(ImagePaths.medium(files.require(spot.getImageId())));
+        }
 
-            if (file != null) {
-                spotDto.setImagePath(file.getPath());
-            }
+        if (rating != null && rating.getCount() != null && rating.getCount() > 0) {
+            spotDto.setReviews((float) rating.getSum() / rating.getCount());
+            spotDto.setReviewCount(rating.getCount());
         }
 
         return spotDto;
     }
+
+    private static boolean sameSize(BigDecimal previous, BigDecimal current) {
+        return previous == null ? current == null : current != null && previous.compareTo(current) == 0;
+    }
+
+    static BigDecimal area(Spot spot) {
+        return spot.getSizeWidth() != null && spot.getSizeLength() != null ? spot.getSizeWidth().multiply(spot.getSizeLength()).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.UserDto;
-import com.project.carbnb.entity.File;
+import com.project.carbnb.entity.RatingAggregate;
 import com.project.carbnb.entity.User;
-import com.project.carbnb.repository.FileRepository;
+import com.project.carbnb.repository.CrossStoreJoin;
+import com.project.carbnb.repository.FilePaths;
+import com.project.carbnb.repository.IdentityMap;
 import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.security.AuthenticatedUserCache;
+import com.project.carbnb.service.MetricRollupService;
+import com.project.carbnb.service.RatingAggregateService;
 import com.project.carbnb.service.UserService;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,24 +27,30 @@ public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
-    private FileRepository fileRepository;
+    private CrossStoreJoin crossStoreJoin;
+    private AuthenticatedUserCache authenticatedUserCache;
+    private RatingAggregateService ratingAggregateService;
+    private MetricRollupService metricRollupService;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, FileRepository fileRepository) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, CrossStoreJoin crossStoreJoin, AuthenticatedUserCache authenticatedUserCache, RatingAggregateService ratingAggregateService, MetricRollupService metricRollupService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.fileRepository = fileRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.ratingAggregateService = ratingAggregateService;
+        this.metricRollupService = metricRollupService;
     }
 
     @Override
     public List<UserDto> findAll() {
         List<User> users = userRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return users.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(users);
     }
 
     @Override
     public List<UserDto> findStatus() {
         List<User> users = userRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return users.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(users);
     }
 
     @Override
@@ -70,12 +83,13 @@ public class UserServiceImpl implements UserService {
         user.setImageId(userDto.getImageId());
         user.setPhoneNumber(userDto.getPhoneNumber());
         user.setBalance(userDto.getBalance());
-        userRepository.save(user);
+        saveNew(user);
     }
 
     @Override
     public void updateData(UserDto currentUser, UserDto userDto) {
         User user = userRepository.findById(currentUser.getId()).orElseThrow(() -> new RuntimeException("User not found"));
+        String email = user.getEmail();
         user.setUsername(userDto.getUsername());
         user.setEmail(userDto.getEmail());
         user.setStatus(userDto.getStatus());
@@ -83,7 +97,6 @@ public class UserServiceImpl implements UserService {
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
         user.setPhoneNumber(userDto.getPhoneNumber());
-        user.setBalance(userDto.getBalance());
 
         if (userDto.getPassword() != null && !userDto.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(userDto.getPassword()));
@@ -96,6 +109,8 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        authenticatedUserCache.invalidate(email);
+        authenticatedUserCache.invalidate(user.getEmail());
     }
 
     @Override
@@ -103,6 +118,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(currentUser.getId()).orElseThrow(() -> new RuntimeException("User not found"));
         user.setStatus((short) 3);
         userRepository.save(user);
+        authenticatedUserCache.invalidate(user.getEmail());
     }
 
     @Override
@@ -111,7 +127,7 @@ public class UserServiceImpl implements UserService {
 
         if (authentication != null && authentication.isAuthenticated()) {
             String email = authentication.getName();
-            return userRepository.findByEmail(email);
+            return authenticatedUserCache.get(email, userRepository::findByEmail);
         }
 
         return null;
@@ -128,10 +144,29 @@ public class UserServiceImpl implements UserService {
         user.setRole(userDto.getRole());
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
+        saveNew(user);
+    }
+
+    private void saveNew(User user) {
+        boolean created = user.getId() == null;
         userRepository.save(user);
+
+        if (created) {
+            metricRollupService.record(MetricRollupService.USERS, null);
+        }
     }
 
     private UserDto convertEntityToDto(User user) {
+        return convertEntitiesToDto(Collections.singletonList(user)).get(0);
+    }
+
+    private List<UserDto> convertEntitiesToDto(List<User> users) {
+        IdentityMap<FilePaths> files = crossStoreJoin.files(users, User::getImageId);
+        Map<Long, RatingAggregate> ratings = ratingAggregateService.find(RatingAggregateService.USER, users.stream().map(User::getId).collect(Collectors.toList()));
+        return users.stream().map(user -> convertEntityToDto(user, files, ratings.get(user.getId()))).collect(Collectors.toList());
+    }
+
+    private UserDto convertEntityToDto(User user, IdentityMap<FilePaths> files, RatingAggregate rating) {
         UserDto userDto = new UserDto();
         userDto.setId(user.getId());
         userDto.setUsername(user.getUsername());
@@ -148,11 +183,13 @@ public class UserServiceImpl implements UserService {
         userDto.setUpdatedAt(user.getUpdatedAt());
 
         if (user.getImageId() != null) {
-            File file = fileRepository.findById(user.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
+            userDto.setImagePath(ImagePaths.thumbnail(files.require(user.getImageId())));
+        }
 
-            if (file != null) {
-                userDto.setImagePath(file.getPath());
-            }
+        if (rating != null && rating.getCount() != null && rating.getCount() > 0) {
+            userDto.setReviews((float) rating.getSum() / rating.getCount());
+            userDto.setReviewCount(rating.getCount());
+            userDto.setReviewHistogram(rating.getHistogram());
         }
 
         return userDto;
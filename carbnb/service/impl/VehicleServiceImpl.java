@@ -1,17 +1,20 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.VehicleDto;
-import com.project.carbnb.entity.File;
+import com.project.carbnb.dto.PageDto;
 import com.project.carbnb.entity.Vehicle;
 import com.project.carbnb.entity.User;
-import com.project.carbnb.repository.FileRepository;
-import com.project.carbnb.repository.UserRepository;
+import com.project.carbnb.repository.CrossStoreJoin;
+import com.project.carbnb.repository.FilePaths;
+import com.project.carbnb.repository.IdentityMap;
+import com.project.carbnb.repository.SequenceAllocator;
 import com.project.carbnb.repository.VehicleRepository;
 import com.project.carbnb.service.VehicleService;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,31 +22,45 @@ import java.util.stream.Collectors;
 public class VehicleServiceImpl implements VehicleService {
 
     private VehicleRepository vehicleRepository;
-    private UserRepository userRepository;
-    private FileRepository fileRepository;
+    private CrossStoreJoin crossStoreJoin;
+    private SequenceAllocator sequenceAllocator;
 
-    public VehicleServiceImpl(VehicleRepository vehicleRepository, UserRepository userRepository, FileRepository fileRepository) {
+    public VehicleServiceImpl(VehicleRepository vehicleRepository, CrossStoreJoin crossStoreJoin, SequenceAllocator sequenceAllocator) {
         this.vehicleRepository = vehicleRepository;
-        this.userRepository = userRepository;
-        this.fileRepository = fileRepository;
+        this.crossStoreJoin = crossStoreJoin;
+        this.sequenceAllocator = sequenceAllocator;
     }
 
     @Override
     public List<VehicleDto> findAll() {
         List<Vehicle> vehicles = vehicleRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
-        return vehicles.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(vehicles);
     }
 
     @Override
     public List<VehicleDto> findStatus() {
         List<Vehicle> vehicles = vehicleRepository.findByStatusIn(Arrays.asList((short) 1, (short) 2), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return vehicles.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(vehicles);
     }
 
     @Override
     public List<VehicleDto> findByUserId(Long id) {
         List<Vehicle> vehicles = vehicleRepository.findByUserAndStatusIn(id, Arrays.asList((short) 1), Sort.by(Sort.Direction.DESC, "createdAt"));
-        return vehicles.stream().map(this::convertEntityToDto).collect(Collectors.toList());
+        return convertEntitiesToDto(vehicles);
+    }
+
+    @Override
+    public PageDto<VehicleDto> findByUserId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Vehicle> vehicles = after == null
+                ? vehicleRepository.findByUserAndStatusIn(id, Arrays.asList((short) 1), PageCursor.first(size, "createdAt", "vehicleId"))
+                : vehicleRepository.findPageByUserAndStatusIn(id, Arrays.asList((short) 1), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        return PageCursor.page(vehicles, size, vehicle -> PageCursor.encode(vehicle.getCreatedAt(), vehicle.getVehicleId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByUserId(Long id) {
+        return vehicleRepository.countByUserAndStatusIn(id, Arrays.asList((short) 1));
     }
 
     @Override
@@ -61,7 +78,7 @@ public class VehicleServiceImpl implements VehicleService {
     @Override
     public void storeData(VehicleDto vehicleDto) {
         Vehicle vehicle = new Vehicle();
-        vehicle.setVehicleId(vehicleRepository.count() + 1);
+        vehicle.setVehicleId(sequenceAllocator.next(Vehicle.class, "vehicle_id"));
         vehicle.setUser(vehicleDto.getUser());
         vehicle.setStatus(vehicleDto.getStatus());
         vehicle.setType(vehicleDto.getType());
@@ -107,6 +124,16 @@ public class VehicleServiceImpl implements VehicleService {
     }
 
     private VehicleDto convertEntityToDto(Vehicle vehicle) {
+        return convertEntitiesToDto(Collections.singletonList(vehicle)).get(0);
+    }
+
+    private List<VehicleDto> convertEntitiesToDto(List<Vehicle> vehicles) {
+        IdentityMap<User> users = crossStoreJoin.users(vehicles, Vehicle::getUser);
+        IdentityMap<FilePaths> files = crossStoreJoin.files(vehicles, Vehicle::getImageId);
+        return vehicles.stream().map(vehicle -> convertEntityToDto(vehicle, users, files)).collect(Collectors.toList());
+    }
+
+    private VehicleDto convertEntityToDto(Vehicle vehicle, IdentityMap<User> users, IdentityMap<FilePaths> files) {
         VehicleDto vehicleDto = new VehicleDto();
         vehicleDto.setVehicleId(vehicle.getVehicleId());
         vehicleDto.setUser(vehicle.getUser());
@@ -121,15 +148,11 @@ public class VehicleServiceImpl implements VehicleService {
         vehicleDto.setCreatedAt(vehicle.getCreatedAt());
         vehicleDto.setUpdatedAt(vehicle.getUpdatedAt());
 
-        User user = userRepository.findById(vehicle.getUser()).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = users.require(vehicle.getUser());
         vehicleDto.setUsername(user.getUsername());
 
         if (vehicle.getImageId() != null) {
-            File file = fileRepository.findById(vehicle.getImageId()).orElseThrow(() -> new RuntimeException("File not found"));
-
-            if (file != null) {
-                vehicleDto.setImagePath(file.getPath());
-            }
+            vehicleDto.setImagePath(ImagePaths.medium(files.require(vehicle.getImageId())));
         }
 
         return vehicleDto;
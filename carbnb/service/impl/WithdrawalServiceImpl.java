@@ -1,27 +1,37 @@
 package com.project.carbnb.service.impl;
 
 import com.project.carbnb.dto.WithdrawalDto;
-import com.project.carbnb.entity.User;
+import com.project.carbnb.dto.PageDto;
+import com.project.carbnb.dto.WithdrawalSummaryDto;
 import com.project.carbnb.entity.Withdrawal;
-import com.project.carbnb.repository.UserRepository;
 import com.project.carbnb.repository.WithdrawalRepository;
+import com.project.carbnb.service.BalanceLedgerService;
+import com.project.carbnb.service.MetricRollupService;
 import com.project.carbnb.service.WithdrawalService;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class WithdrawalServiceImpl implements WithdrawalService {
 
     private WithdrawalRepository withdrawalRepository;
-    private UserRepository userRepository;
+    private BalanceLedgerService balanceLedgerService;
+    private MetricRollupService metricRollupService;
+    private TransactionTemplate transactionTemplate;
 
-    public WithdrawalServiceImpl(WithdrawalRepository withdrawalRepository, UserRepository userRepository) {
+    public WithdrawalServiceImpl(WithdrawalRepository withdrawalRepository, BalanceLedgerService balanceLedgerService, MetricRollupService metricRollupService, PlatformTransactionManager transactionManager) {
         this.withdrawalRepository = withdrawalRepository;
-        this.userRepository = userRepository;
+        this.balanceLedgerService = balanceLedgerService;
+        this.metricRollupService = metricRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -42,6 +52,29 @@ public class WithdrawalServiceImpl implements WithdrawalService {
         return withdrawals.stream().map(this::convertEntityToDto).collect(Collectors.toList());
     }
 
+    @Override
+    public PageDto<WithdrawalDto> findByUserId(Long id, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Withdrawal> withdrawals = after == null
+                ? withdrawalRepository.findByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), PageCursor.first(size, "createdAt", "id"))
+                : withdrawalRepository.findPageByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3), after.getCreatedAt(), after.getId(), PageCursor.next(size));
+        return PageCursor.page(withdrawals, size, withdrawal -> PageCursor.encode(withdrawal.getCreatedAt(), withdrawal.getId()), this::convertEntitiesToDto);
+    }
+
+    @Override
+    public long countByUserId(Long id) {
+        return withdrawalRepository.countByUserIdAndStatusIn(id, Arrays.asList((short) 1, (short) 2, (short) 3));
+    }
+
+    @Override
+    public WithdrawalSummaryDto summarizeByUserId(Long id) {
+        return new WithdrawalSummaryDto(
+                withdrawalRepository.sumAmountByUserIdAndStatus(id, (short) 1),
+                withdrawalRepository.sumAmountByUserIdAndStatus(id, (short) 2),
+                withdrawalRepository.sumAmountByUserIdAndStatus(id, (short) 3)
+        );
+    }
+
     @Override
     public WithdrawalDto findById(Long id) {
         Withdrawal withdrawal = withdrawalRepository.findById(id).orElseThrow(() -> new RuntimeException("Withdrawal not found"));
@@ -64,38 +97,49 @@ public class WithdrawalServiceImpl implements WithdrawalService {
         withdrawal.setMethod(withdrawalDto.getMethod());
         withdrawal.setAccount(withdrawalDto.getAccount());
 
-        BigDecimal withdrawalAmount = withdrawalDto.getAmount();
-        BigDecimal currentBalance = withdrawal.getUser().getBalance();
-
-        if (currentBalance.compareTo(withdrawalAmount) < 0) {
-            throw new RuntimeException("Insufficient balance");
-        }
-
-        BigDecimal newBalance = currentBalance.subtract(withdrawalAmount);
-
-        User user = userRepository.findById(withdrawal.getUser().getId()).orElseThrow(() -> new RuntimeException("User not found"));
-        user.setBalance(newBalance);
-        userRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            withdrawalRepository.save(withdrawal);
+            balanceLedgerService.debitWithdrawal(withdrawal.getUser().getId(), withdrawal.getId(), withdrawal.getAmount());
+        });
 
-        withdrawalRepository.save(withdrawal);
+        recordPending(withdrawal.getCreatedAt(), withdrawal.getStatus(), withdrawal.getAmount(), 1);
     }
 
     @Override
     public void updateData(WithdrawalDto currentWithdrawal, WithdrawalDto withdrawalDto) {
         Withdrawal withdrawal = withdrawalRepository.findById(currentWithdrawal.getId()).orElseThrow(() -> new RuntimeException("Withdrawal not found"));
+        Short previousStatus = withdrawal.getStatus();
+        BigDecimal previousAmount = withdrawal.getAmount();
         withdrawal.setUser(withdrawalDto.getUser());
         withdrawal.setStatus(withdrawalDto.getStatus());
         withdrawal.setAmount(withdrawalDto.getAmount());
         withdrawal.setMethod(withdrawalDto.getMethod());
         withdrawal.setAccount(withdrawalDto.getAccount());
         withdrawalRepository.save(withdrawal);
+
+        if (!Objects.equals(previousStatus, withdrawal.getStatus()) || !Objects.equals(previousAmount, withdrawal.getAmount())) {
+            recordPending(withdrawal.getCreatedAt(), previousStatus, previousAmount, -1);
+            recordPending(withdrawal.getCreatedAt(), withdrawal.getStatus(), withdrawal.getAmount(), 1);
+        }
     }
 
     @Override
     public void removeData(WithdrawalDto currentWithdrawal) {
         Withdrawal withdrawal = withdrawalRepository.findById(currentWithdrawal.getId()).orElseThrow(() -> new RuntimeException("Withdrawal not found"));
+        Short previousStatus = withdrawal.getStatus();
         withdrawal.setStatus((short) 4);
         withdrawalRepository.save(withdrawal);
+        recordPending(withdrawal.getCreatedAt(), previousStatus, withdrawal.getAmount(), -1);
+    }
+
+    private void recordPending(Instant createdAt, Short status, BigDecimal amount, int sign) {
+        if (status != null && status == 1) {
+            metricRollupService.adjust(MetricRollupService.WITHDRAWALS, createdAt, sign, amount != null && sign < 0 ? amount.negate() : amount);
+        }
+    }
+
+    private List<WithdrawalDto> convertEntitiesToDto(List<Withdrawal> withdrawals) {
+        return withdrawals.stream().map(this::convertEntityToDto).collect(Collectors.toList());
     }
 
     private WithdrawalDto convertEntityToDto(Withdrawal withdrawal) {